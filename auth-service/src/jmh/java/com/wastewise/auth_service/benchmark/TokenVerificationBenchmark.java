@@ -0,0 +1,114 @@
+package com.wastewise.auth_service.benchmark;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.wastewise.auth_service.security.CachingJwtDecoder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token verifications per second on one thread, the same decoder setup as JwtConfig:
+ * a full RS256 signature check and claim validation, and the verified-token cache in front of it.
+ * The tokens are spread over {@code activeTokens} workers, more than fit the cache when the cache is smaller.
+ * Run with -t to see how it scales across cores.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(1)
+@Fork(1)
+public class TokenVerificationBenchmark {
+
+    private static final String ISSUER = "wastewise-auth-service";
+
+    @Param({"1000"})
+    private int activeTokens;
+
+    @Param({"10000"})
+    private long cacheSize;
+
+    private String[] tokens;
+    private NimbusJwtDecoder signatureDecoder;
+    private CachingJwtDecoder cachingDecoder;
+
+    @Setup
+    public void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        RSAKey key = new RSAKey.Builder((RSAPublicKey) keyPair.getPublic())
+                .privateKey((RSAPrivateKey) keyPair.getPrivate()).keyIDFromThumbprint().build();
+        JwtEncoder encoder = new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(key)));
+
+        signatureDecoder = NimbusJwtDecoder.withPublicKey(key.toRSAPublicKey())
+                .signatureAlgorithm(SignatureAlgorithm.RS256).build();
+        signatureDecoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(ISSUER));
+        cachingDecoder = new CachingJwtDecoder(signatureDecoder, cacheSize);
+
+        Instant now = Instant.now();
+        tokens = new String[activeTokens];
+        for (int i = 0; i < activeTokens; i++) {
+            JwtClaimsSet claims = JwtClaimsSet.builder()
+                    .issuer(ISSUER)
+                    .subject(String.format("W%03d", i + 1))
+                    .issuedAt(now)
+                    .expiresAt(now.plus(1, ChronoUnit.HOURS))
+                    .claim("role", "SANITARY_WORKER")
+                    .claim("roleId", "003")
+                    .build();
+            tokens[i] = encoder.encode(JwtEncoderParameters.from(JwsHeader.with(SignatureAlgorithm.RS256).build(), claims))
+                    .getTokenValue();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        String nextOf(String[] tokens) {
+            String token = tokens[next];
+            next = next + 1 == tokens.length ? 0 : next + 1;
+            return token;
+        }
+    }
+
+    @Benchmark
+    public Jwt signatureVerification(Cursor cursor) {
+        return signatureDecoder.decode(cursor.nextOf(tokens));
+    }
+
+    @Benchmark
+    public Jwt cachedVerification(Cursor cursor) {
+        return cachingDecoder.decode(cursor.nextOf(tokens));
+    }
+}
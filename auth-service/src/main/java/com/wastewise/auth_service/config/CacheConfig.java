@@ -0,0 +1,32 @@
+package com.wastewise.auth_service.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Local, bounded Caffeine cache of the user credentials read on every login.
+ */
+@EnableCaching
+@Configuration
+public class CacheConfig {
+
+    public static final String USERS = "users";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${wastewise.cache.users.spec}") String usersSpec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // only the caches registered here exist, none are created on the fly
+        cacheManager.setCacheNames(List.of());
+        cacheManager.registerCustomCache(USERS, Caffeine.from(usersSpec).recordStats().build());
+        // puts and evictions made inside a transaction only happen once it commits
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,95 @@
+package com.wastewise.auth_service.config;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.wastewise.auth_service.security.CachingJwtDecoder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.security.converter.RsaKeyConverters;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+
+/**
+ * Password hashing and RS256 token signing. Tokens are verified with the public key alone, so any service holding
+ * the JWK set published by this one can verify them without calling back.
+ */
+@Slf4j
+@Configuration
+public class JwtConfig {
+
+    /**
+     * @param strength log2 of the BCrypt rounds, every step doubles the cost of a login, see PasswordHashBenchmark
+     */
+    @Bean
+    public PasswordEncoder passwordEncoder(@Value("${wastewise.auth.bcrypt-strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
+    }
+
+    /**
+     * RSA key pair read from PEM files (PKCS#8 private key, X.509 public key). Without them a key pair is generated
+     * at startup, which only suits a single instance: its tokens become invalid on restart.
+     */
+    @Bean
+    public RSAKey jwtSigningKey(ResourceLoader resourceLoader,
+                                @Value("${wastewise.auth.jwt.private-key-location:}") String privateKeyLocation,
+                                @Value("${wastewise.auth.jwt.public-key-location:}") String publicKeyLocation)
+            throws IOException, JOSEException, NoSuchAlgorithmException {
+        RSAPublicKey publicKey;
+        RSAPrivateKey privateKey;
+        if (privateKeyLocation.isBlank() || publicKeyLocation.isBlank()) {
+            log.warn("No JWT signing key configured, generating one, tokens will not survive a restart");
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            KeyPair keyPair = generator.generateKeyPair();
+            publicKey = (RSAPublicKey) keyPair.getPublic();
+            privateKey = (RSAPrivateKey) keyPair.getPrivate();
+        } else {
+            try (InputStream in = resourceLoader.getResource(publicKeyLocation).getInputStream()) {
+                publicKey = RsaKeyConverters.x509().convert(in);
+            }
+            try (InputStream in = resourceLoader.getResource(privateKeyLocation).getInputStream()) {
+                privateKey = RsaKeyConverters.pkcs8().convert(in);
+            }
+        }
+        RSAKey key = new RSAKey.Builder(publicKey).privateKey(privateKey).keyUse(KeyUse.SIGNATURE).build();
+        // the thumbprint changes with the key, so verifiers holding a stale JWK set notice the rotation
+        return new RSAKey.Builder(key).keyIDFromThumbprint().build();
+    }
+
+    @Bean
+    public JwtEncoder jwtEncoder(RSAKey jwtSigningKey) {
+        return new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(jwtSigningKey)));
+    }
+
+    @Bean
+    public JwtDecoder jwtDecoder(RSAKey jwtSigningKey,
+                                 @Value("${wastewise.auth.jwt.issuer}") String issuer,
+                                 @Value("${wastewise.auth.jwt.verified-cache-size:10000}") long verifiedCacheSize)
+            throws JOSEException {
+        NimbusJwtDecoder decoder = NimbusJwtDecoder.withPublicKey(jwtSigningKey.toRSAPublicKey())
+                .signatureAlgorithm(SignatureAlgorithm.RS256)
+                .build();
+        decoder.setJwtValidator(JwtValidators.createDefaultWithIssuer(issuer));
+        return new CachingJwtDecoder(decoder, verifiedCacheSize);
+    }
+}
@@ -0,0 +1,48 @@
+package com.wastewise.auth_service.controller;
+
+import com.wastewise.auth_service.dto.LoginRequestDTO;
+import com.wastewise.auth_service.dto.LoginResponseDTO;
+import com.wastewise.auth_service.dto.TokenVerificationDTO;
+import com.wastewise.auth_service.service.AuthService;
+import jakarta.validation.Valid;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@Slf4j
+@RestController
+@RequestMapping("/wastewise/auth")
+public class AuthController {
+
+    private final AuthService authService;
+
+    public AuthController(AuthService authService) {
+        this.authService = authService;
+    }
+
+    /**
+     * Logging in with worker id and password
+     * @param dto worker id and password
+     * @return bearer access token, its lifetime in seconds and the role name of the worker
+     */
+    @PostMapping("/login")
+    public ResponseEntity<LoginResponseDTO> login(@Valid @RequestBody LoginRequestDTO dto) {
+        log.info("Login attempt of worker {}", dto.getWorkerId());
+        return ResponseEntity.ok(authService.login(dto));
+    }
+
+    /**
+     * Verifying the bearer token of the request, an invalid or expired token is answered with 401
+     * @return worker id, role and expiry carried by the token
+     */
+    @GetMapping("/verify")
+    public ResponseEntity<TokenVerificationDTO> verify(@AuthenticationPrincipal Jwt jwt) {
+        return ResponseEntity.ok(authService.verify(jwt));
+    }
+}
@@ -0,0 +1,33 @@
+package com.wastewise.auth_service.controller;
+
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+import java.util.Map;
+
+@RestController
+public class JwksController {
+
+    private final Map<String, Object> jwkSet;
+
+    public JwksController(RSAKey jwtSigningKey) {
+        // toPublicJWKSet drops the private part of the key
+        this.jwkSet = new JWKSet(jwtSigningKey).toPublicJWKSet().toJSONObject();
+    }
+
+    /**
+     * Public keys other services verify the access tokens with
+     * @return JWK set with the RS256 signing key
+     */
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(Duration.ofMinutes(5)).cachePublic())
+                .body(jwkSet);
+    }
+}
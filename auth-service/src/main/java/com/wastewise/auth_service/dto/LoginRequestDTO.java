@@ -0,0 +1,14 @@
+package com.wastewise.auth_service.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+
+@Data
+public class LoginRequestDTO {
+
+    @NotBlank(message = "Worker ID is required")
+    private String workerId;
+
+    @NotBlank(message = "Password is required")
+    private String password;
+}
@@ -0,0 +1,16 @@
+package com.wastewise.auth_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class LoginResponseDTO {
+
+    private String accessToken;
+    private String tokenType;
+    private long expiresIn;
+    private String roleName;
+}
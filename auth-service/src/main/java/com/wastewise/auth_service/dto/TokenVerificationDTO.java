@@ -0,0 +1,18 @@
+package com.wastewise.auth_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class TokenVerificationDTO {
+
+    private String workerId;
+    private String roleId;
+    private String roleName;
+    private Instant expiresAt;
+}
@@ -0,0 +1,18 @@
+package com.wastewise.auth_service.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * What the login path needs of a user, small enough to be cached: the BCrypt hash and the role id.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserCredentialsDTO {
+
+    private String workerId;
+    private String passwordHash;
+    private String roleId;
+}
@@ -0,0 +1,7 @@
+package com.wastewise.auth_service.exception;
+
+public class InvalidCredentialsException extends RuntimeException {
+    public InvalidCredentialsException(String message) {
+        super(message);
+    }
+}
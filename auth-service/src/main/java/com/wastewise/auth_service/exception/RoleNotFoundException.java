@@ -0,0 +1,7 @@
+package com.wastewise.auth_service.exception;
+
+public class RoleNotFoundException extends RuntimeException {
+    public RoleNotFoundException(String message) {
+        super(message);
+    }
+}
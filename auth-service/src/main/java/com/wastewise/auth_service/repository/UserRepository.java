@@ -1,7 +1,24 @@
 package com.wastewise.auth_service.repository;
 
+import com.wastewise.auth_service.dto.UserCredentialsDTO;
 import com.wastewise.auth_service.model.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, String> {
+
+    /**
+     * Credentials of a user without loading the entity or touching the role table.
+     */
+    @Query("SELECT new com.wastewise.auth_service.dto.UserCredentialsDTO(u.workerId, u.password, u.roleId) " +
+            "FROM User u WHERE u.workerId = :workerId")
+    Optional<UserCredentialsDTO> findCredentialsByWorkerId(String workerId);
+
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password, u.updatedDate = :updatedDate WHERE u.workerId = :workerId")
+    int updatePassword(String workerId, String password, LocalDateTime updatedDate);
 }
@@ -0,0 +1,13 @@
+package com.wastewise.auth_service.service;
+
+import com.wastewise.auth_service.dto.LoginRequestDTO;
+import com.wastewise.auth_service.dto.LoginResponseDTO;
+import com.wastewise.auth_service.dto.TokenVerificationDTO;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+public interface AuthService {
+
+    LoginResponseDTO login(LoginRequestDTO dto);
+
+    TokenVerificationDTO verify(Jwt jwt);
+}
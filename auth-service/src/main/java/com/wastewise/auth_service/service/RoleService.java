@@ -1,4 +1,23 @@
 package com.wastewise.auth_service.service;
 
+import com.wastewise.auth_service.model.Role;
+import com.wastewise.auth_service.model.User;
+
+import java.util.List;
+
 public interface RoleService {
+
+    Role getRoleById(String roleId);
+
+    Role getRoleByName(String roleName);
+
+    Role getRoleOf(User user);
+
+    List<Role> getAllRoles();
+
+    Role saveRole(Role role);
+
+    void deleteRole(String roleId);
+
+    void refresh();
 }
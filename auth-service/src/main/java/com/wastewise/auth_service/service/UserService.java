@@ -1,4 +1,12 @@
 package com.wastewise.auth_service.service;
 
+import com.wastewise.auth_service.dto.UserCredentialsDTO;
+
+import java.util.Optional;
+
 public interface UserService {
+
+    Optional<UserCredentialsDTO> getUserCredentials(String workerId);
+
+    void updatePasswordHash(String workerId, String passwordHash);
 }
@@ -0,0 +1,100 @@
+package com.wastewise.auth_service.service.serviceimpl;
+
+import com.wastewise.auth_service.config.SecurityConfig;
+import com.wastewise.auth_service.dto.LoginRequestDTO;
+import com.wastewise.auth_service.dto.LoginResponseDTO;
+import com.wastewise.auth_service.dto.TokenVerificationDTO;
+import com.wastewise.auth_service.dto.UserCredentialsDTO;
+import com.wastewise.auth_service.exception.InvalidCredentialsException;
+import com.wastewise.auth_service.model.Role;
+import com.wastewise.auth_service.service.AuthService;
+import com.wastewise.auth_service.service.RoleService;
+import com.wastewise.auth_service.service.UserService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jose.jws.SignatureAlgorithm;
+import org.springframework.security.oauth2.jwt.JwsHeader;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtClaimsSet;
+import org.springframework.security.oauth2.jwt.JwtEncoder;
+import org.springframework.security.oauth2.jwt.JwtEncoderParameters;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+@Slf4j
+@Service
+public class AuthServiceImpl implements AuthService {
+
+    private static final String INVALID_CREDENTIALS_MESSAGE = "Invalid worker id or password";
+
+    private final UserService userService;
+    private final RoleService roleService;
+    private final PasswordEncoder passwordEncoder;
+    private final JwtEncoder jwtEncoder;
+    private final String issuer;
+    private final Duration tokenTtl;
+    // matched against when the worker id is unknown, so that case takes as long as a wrong password
+    private final String unknownUserHash;
+
+    public AuthServiceImpl(UserService userService, RoleService roleService, PasswordEncoder passwordEncoder,
+                           JwtEncoder jwtEncoder,
+                           @Value("${wastewise.auth.jwt.issuer}") String issuer,
+                           @Value("${wastewise.auth.jwt.ttl:PT1H}") Duration tokenTtl) {
+        this.userService = userService;
+        this.roleService = roleService;
+        this.passwordEncoder = passwordEncoder;
+        this.jwtEncoder = jwtEncoder;
+        this.issuer = issuer;
+        this.tokenTtl = tokenTtl;
+        this.unknownUserHash = passwordEncoder.encode("unknown-user");
+    }
+
+    /**
+     * Checks the password against the stored BCrypt hash and issues a signed access token.
+     * Hashes made with a lower strength than the configured one are replaced on a successful login.
+     *
+     * @param dto worker id and password
+     * @return RS256 access token with the role of the worker
+     */
+    @Override
+    public LoginResponseDTO login(LoginRequestDTO dto) {
+        Optional<UserCredentialsDTO> credentials = userService.getUserCredentials(dto.getWorkerId());
+        String hash = credentials.map(UserCredentialsDTO::getPasswordHash).orElse(unknownUserHash);
+        if (!passwordEncoder.matches(dto.getPassword(), hash) || credentials.isEmpty()) {
+            log.warn("Failed login for worker {}", dto.getWorkerId());
+            throw new InvalidCredentialsException(INVALID_CREDENTIALS_MESSAGE);
+        }
+        if (passwordEncoder.upgradeEncoding(hash)) {
+            userService.updatePasswordHash(dto.getWorkerId(), passwordEncoder.encode(dto.getPassword()));
+        }
+
+        Role role = roleService.getRoleById(credentials.get().getRoleId());
+        Instant now = Instant.now();
+        JwtClaimsSet claims = JwtClaimsSet.builder()
+                .issuer(issuer)
+                .subject(dto.getWorkerId())
+                .issuedAt(now)
+                .expiresAt(now.plus(tokenTtl))
+                .claim(SecurityConfig.ROLE_CLAIM, role.getRoleName())
+                .claim(SecurityConfig.ROLE_ID_CLAIM, role.getRoleId())
+                .build();
+        JwsHeader header = JwsHeader.with(SignatureAlgorithm.RS256).build();
+        String token = jwtEncoder.encode(JwtEncoderParameters.from(header, claims)).getTokenValue();
+        log.info("Issued an access token for worker {}", dto.getWorkerId());
+        return new LoginResponseDTO(token, "Bearer", tokenTtl.toSeconds(), role.getRoleName());
+    }
+
+    /**
+     * @param jwt token already verified by the resource server filter
+     * @return the identity carried by the token
+     */
+    @Override
+    public TokenVerificationDTO verify(Jwt jwt) {
+        return new TokenVerificationDTO(jwt.getSubject(), jwt.getClaimAsString(SecurityConfig.ROLE_ID_CLAIM),
+                jwt.getClaimAsString(SecurityConfig.ROLE_CLAIM), jwt.getExpiresAt());
+    }
+}
@@ -1,6 +1,136 @@
 package com.wastewise.auth_service.service.serviceimpl;
 
+import com.wastewise.auth_service.exception.RoleNotFoundException;
+import com.wastewise.auth_service.model.Role;
+import com.wastewise.auth_service.model.User;
+import com.wastewise.auth_service.repository.RoleRepository;
 import com.wastewise.auth_service.service.RoleService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Serves roles from an immutable in-memory snapshot keyed by id and by name, so resolving the role of a user
+ * never queries the database. The snapshot is loaded once the application is ready and replaced as a whole after
+ * every committed role change; readers always see either the old or the new snapshot, never a mix. Role is a
+ * mutable entity, so callers get copies and cannot change the snapshot.
+ */
+@Slf4j
+@Service
 public class RoleServiceImpl implements RoleService {
+
+    private final RoleRepository roleRepository;
+    // refresh() is also called from afterCommit, where the finished transaction is still bound: it needs a new one
+    private final TransactionTemplate refreshTransaction;
+    private volatile Roles roles = Roles.EMPTY;
+
+    public RoleServiceImpl(RoleRepository roleRepository, PlatformTransactionManager transactionManager) {
+        this.roleRepository = roleRepository;
+        this.refreshTransaction = new TransactionTemplate(transactionManager);
+        this.refreshTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.refreshTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public Role getRoleById(String roleId) {
+        Role role = roles.byId().get(roleId);
+        if (role == null) {
+            throw new RoleNotFoundException("Role with id " + roleId + " does not exist");
+        }
+        return copy(role);
+    }
+
+    @Override
+    public Role getRoleByName(String roleName) {
+        Role role = roles.byName().get(roleName);
+        if (role == null) {
+            throw new RoleNotFoundException("Role with name " + roleName + " does not exist");
+        }
+        return copy(role);
+    }
+
+    /**
+     * @param user user loaded without its role
+     * @return role of the user, taken from the snapshot instead of the lazy association
+     */
+    @Override
+    public Role getRoleOf(User user) {
+        return getRoleById(user.getRoleId());
+    }
+
+    @Override
+    public List<Role> getAllRoles() {
+        return roles.all().stream().map(RoleServiceImpl::copy).toList();
+    }
+
+    @Override
+    @Transactional
+    public Role saveRole(Role role) {
+        log.info("Saving role {} with name {}", role.getRoleId(), role.getRoleName());
+        Role saved = roleRepository.save(role);
+        refreshAfterCommit();
+        return saved;
+    }
+
+    @Override
+    @Transactional
+    public void deleteRole(String roleId) {
+        if (!roleRepository.existsById(roleId)) {
+            throw new RoleNotFoundException("Role with id " + roleId + " does not exist");
+        }
+        log.info("Deleting role {}", roleId);
+        roleRepository.deleteById(roleId);
+        refreshAfterCommit();
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void refresh() {
+        List<Role> all = refreshTransaction.execute(status -> roleRepository.findAll()).stream()
+                .map(RoleServiceImpl::copy)
+                .sorted(Comparator.comparing(Role::getRoleId))
+                .toList();
+        roles = new Roles(
+                all.stream().collect(Collectors.toUnmodifiableMap(Role::getRoleId, Function.identity())),
+                all.stream().collect(Collectors.toUnmodifiableMap(Role::getRoleName, Function.identity())),
+                all);
+        log.info("Loaded {} roles into the role cache", all.size());
+    }
+
+    private void refreshAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            refresh();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                refresh();
+            }
+        });
+    }
+
+    private static Role copy(Role role) {
+        return new Role(role.getRoleId(), role.getRoleName());
+    }
+
+    /**
+     * Detached copies of the role rows, never handed out themselves
+     */
+    private record Roles(Map<String, Role> byId, Map<String, Role> byName, List<Role> all) {
+        private static final Roles EMPTY = new Roles(Map.of(), Map.of(), List.of());
+    }
 }
@@ -1,6 +1,50 @@
 package com.wastewise.auth_service.service.serviceimpl;
 
+import com.wastewise.auth_service.config.CacheConfig;
+import com.wastewise.auth_service.dto.UserCredentialsDTO;
+import com.wastewise.auth_service.repository.UserRepository;
 import com.wastewise.auth_service.service.UserService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Slf4j
+@Service
 public class UserServiceImpl implements UserService {
+
+    private final UserRepository userRepository;
+
+    public UserServiceImpl(UserRepository userRepository) {
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * Retrieves the credentials of a user, unknown worker ids are not cached.
+     *
+     * @param workerId id of the worker
+     * @return password hash and role id of the user, empty when there is no such user
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.USERS, key = "#workerId", unless = "#result == null")
+    public Optional<UserCredentialsDTO> getUserCredentials(String workerId) {
+        log.info("Loading the credentials of user {}", workerId);
+        return userRepository.findCredentialsByWorkerId(workerId);
+    }
+
+    /**
+     * Replaces the stored password hash, e.g. to rehash it with a higher BCrypt strength.
+     */
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.USERS, key = "#workerId")
+    public void updatePasswordHash(String workerId, String passwordHash) {
+        log.info("Updating the password hash of user {}", workerId);
+        userRepository.updatePassword(workerId, passwordHash, LocalDateTime.now());
+    }
 }
@@ -0,0 +1,102 @@
+package com.wastewise.auth_service.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class CachingJwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2026-10-18T08:00:00Z");
+
+    private final JwtDecoder delegate = mock(JwtDecoder.class);
+    private final MovableClock clock = new MovableClock(NOW, ZoneOffset.UTC);
+    private final CachingJwtDecoder decoder = new CachingJwtDecoder(delegate, 100, clock);
+
+    @Test
+    void verifiedTokenIsDecodedOnce() {
+        Jwt jwt = jwt("token-1", NOW.plusSeconds(60));
+        when(delegate.decode("token-1")).thenReturn(jwt);
+
+        assertSame(jwt, decoder.decode("token-1"));
+        assertSame(jwt, decoder.decode("token-1"));
+
+        verify(delegate, times(1)).decode("token-1");
+        assertEquals(1, decoder.size());
+    }
+
+    @Test
+    void tokenIsVerifiedAgainOnceItExpired() {
+        when(delegate.decode("token-2")).thenReturn(jwt("token-2", NOW.plusSeconds(60)));
+        decoder.decode("token-2");
+
+        clock.set(NOW.plusSeconds(60));
+        when(delegate.decode("token-2")).thenThrow(new BadJwtException("Jwt expired"));
+
+        assertThrows(BadJwtException.class, () -> decoder.decode("token-2"));
+        verify(delegate, times(2)).decode("token-2");
+    }
+
+    @Test
+    void rejectedTokenIsNotCached() {
+        when(delegate.decode("forged")).thenThrow(new BadJwtException("Invalid signature"));
+
+        assertThrows(BadJwtException.class, () -> decoder.decode("forged"));
+        assertThrows(BadJwtException.class, () -> decoder.decode("forged"));
+
+        verify(delegate, times(2)).decode("forged");
+        assertEquals(0, decoder.size());
+    }
+
+    private static Jwt jwt(String token, Instant expiresAt) {
+        return Jwt.withTokenValue(token)
+                .header("alg", "RS256")
+                .subject("W001")
+                .issuedAt(expiresAt.minus(Duration.ofHours(1)))
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+    private static final class MovableClock extends Clock {
+        private final ZoneId zone;
+        private volatile Instant now;
+
+        MovableClock(Instant now, ZoneId zone) {
+            this.now = now;
+            this.zone = zone;
+        }
+
+        void set(Instant instant) {
+            now = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new MovableClock(now, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
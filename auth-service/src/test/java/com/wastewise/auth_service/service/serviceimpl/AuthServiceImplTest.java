@@ -0,0 +1,128 @@
+package com.wastewise.auth_service.service.serviceimpl;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
+import com.wastewise.auth_service.config.SecurityConfig;
+import com.wastewise.auth_service.dto.LoginRequestDTO;
+import com.wastewise.auth_service.dto.LoginResponseDTO;
+import com.wastewise.auth_service.dto.UserCredentialsDTO;
+import com.wastewise.auth_service.exception.InvalidCredentialsException;
+import com.wastewise.auth_service.model.Role;
+import com.wastewise.auth_service.service.RoleService;
+import com.wastewise.auth_service.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.jwt.NimbusJwtEncoder;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AuthServiceImplTest {
+
+    private static final String ISSUER = "wastewise-auth-service";
+    private static final String PASSWORD = "s3cret-Passw0rd";
+    // low strengths keep the test fast, the production default is 10
+    private static final int STRENGTH = 5;
+
+    private final UserService userService = mock(UserService.class);
+    private final RoleService roleService = mock(RoleService.class);
+    private final PasswordEncoder passwordEncoder = spy(new BCryptPasswordEncoder(STRENGTH));
+    private final RSAKey signingKey = generateKey();
+    private final AuthServiceImpl authService = new AuthServiceImpl(userService, roleService, passwordEncoder,
+            new NimbusJwtEncoder(new ImmutableJWKSet<>(new JWKSet(signingKey))), ISSUER, Duration.ofHours(1));
+
+    @Test
+    void issuesASignedTokenWithTheRoleOfTheWorker() throws JOSEException {
+        credentials("W001", new BCryptPasswordEncoder(STRENGTH).encode(PASSWORD));
+        when(roleService.getRoleById("003")).thenReturn(new Role("003", "SANITARY_WORKER"));
+
+        LoginResponseDTO response = authService.login(request("W001", PASSWORD));
+
+        Jwt jwt = NimbusJwtDecoder.withPublicKey(signingKey.toRSAPublicKey()).build().decode(response.getAccessToken());
+        assertEquals("W001", jwt.getSubject());
+        assertEquals(ISSUER, jwt.getClaimAsString("iss"));
+        assertEquals("SANITARY_WORKER", jwt.getClaimAsString(SecurityConfig.ROLE_CLAIM));
+        assertEquals("003", jwt.getClaimAsString(SecurityConfig.ROLE_ID_CLAIM));
+        assertEquals("Bearer", response.getTokenType());
+        assertEquals(3600, response.getExpiresIn());
+        verify(userService, never()).updatePasswordHash(anyString(), anyString());
+    }
+
+    @Test
+    void wrongPasswordIsRejected() {
+        credentials("W001", new BCryptPasswordEncoder(STRENGTH).encode(PASSWORD));
+
+        assertThrows(InvalidCredentialsException.class, () -> authService.login(request("W001", "wrong")));
+        verify(userService, never()).updatePasswordHash(anyString(), anyString());
+    }
+
+    @Test
+    void unknownWorkerIsCheckedAgainstTheDummyHash() {
+        when(userService.getUserCredentials("W999")).thenReturn(Optional.empty());
+
+        assertThrows(InvalidCredentialsException.class, () -> authService.login(request("W999", PASSWORD)));
+
+        // a full BCrypt comparison ran, so the answer takes as long as for a wrong password
+        ArgumentCaptor<String> hash = ArgumentCaptor.forClass(String.class);
+        verify(passwordEncoder).matches(eq(PASSWORD), hash.capture());
+        assertTrue(new BCryptPasswordEncoder().matches("unknown-user", hash.getValue()));
+    }
+
+    @Test
+    void unknownWorkerIsRejectedEvenWithTheDummyPassword() {
+        when(userService.getUserCredentials("W999")).thenReturn(Optional.empty());
+
+        assertThrows(InvalidCredentialsException.class, () -> authService.login(request("W999", "unknown-user")));
+    }
+
+    @Test
+    void hashOfALowerStrengthIsReplacedOnLogin() {
+        credentials("W001", new BCryptPasswordEncoder(STRENGTH - 1).encode(PASSWORD));
+        when(roleService.getRoleById("003")).thenReturn(new Role("003", "SANITARY_WORKER"));
+
+        authService.login(request("W001", PASSWORD));
+
+        ArgumentCaptor<String> rehashed = ArgumentCaptor.forClass(String.class);
+        verify(userService).updatePasswordHash(eq("W001"), rehashed.capture());
+        assertTrue(rehashed.getValue().startsWith("$2a$0" + STRENGTH + "$"), rehashed.getValue());
+        assertTrue(passwordEncoder.matches(PASSWORD, rehashed.getValue()));
+    }
+
+    private void credentials(String workerId, String passwordHash) {
+        when(userService.getUserCredentials(workerId))
+                .thenReturn(Optional.of(new UserCredentialsDTO(workerId, passwordHash, "003")));
+    }
+
+    private static LoginRequestDTO request(String workerId, String password) {
+        LoginRequestDTO dto = new LoginRequestDTO();
+        dto.setWorkerId(workerId);
+        dto.setPassword(password);
+        return dto;
+    }
+
+    private static RSAKey generateKey() {
+        try {
+            return new RSAKeyGenerator(2048).keyIDFromThumbprint(true).generate();
+        } catch (JOSEException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
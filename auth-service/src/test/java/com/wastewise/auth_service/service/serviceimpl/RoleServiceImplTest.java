@@ -0,0 +1,98 @@
+package com.wastewise.auth_service.service.serviceimpl;
+
+import com.wastewise.auth_service.exception.RoleNotFoundException;
+import com.wastewise.auth_service.model.Role;
+import com.wastewise.auth_service.model.User;
+import com.wastewise.auth_service.repository.RoleRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RoleServiceImplTest {
+
+    private final RoleRepository roleRepository = mock(RoleRepository.class);
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+    private final RoleServiceImpl roleService = new RoleServiceImpl(roleRepository, transactionManager);
+
+    @Test
+    void resolvesRolesFromSnapshotWithoutQueries() {
+        when(roleRepository.findAll()).thenReturn(List.of(new Role("001", "ADMIN"), new Role("003", "SANITARY_WORKER")));
+        roleService.refresh();
+
+        User user = new User();
+        user.setRoleId("003");
+        assertEquals("SANITARY_WORKER", roleService.getRoleOf(user).getRoleName());
+        assertEquals("001", roleService.getRoleByName("ADMIN").getRoleId());
+        assertThrows(RoleNotFoundException.class, () -> roleService.getRoleById("002"));
+        verify(roleRepository, times(1)).findAll();
+    }
+
+    @Test
+    void reloadsSnapshotAfterWrite() {
+        when(roleRepository.findAll()).thenReturn(List.of(new Role("001", "ADMIN")));
+        roleService.refresh();
+        assertThrows(RoleNotFoundException.class, () -> roleService.getRoleByName("DRIVER"));
+
+        Role driver = new Role("002", "DRIVER");
+        when(roleRepository.save(any(Role.class))).thenReturn(driver);
+        when(roleRepository.findAll()).thenReturn(List.of(new Role("001", "ADMIN"), driver));
+        roleService.saveRole(driver);
+
+        assertEquals("002", roleService.getRoleByName("DRIVER").getRoleId());
+        assertEquals(2, roleService.getAllRoles().size());
+    }
+
+    @Test
+    void rolesHandedOutAreCopies() {
+        when(roleRepository.findAll()).thenReturn(List.of(new Role("001", "ADMIN")));
+        roleService.refresh();
+
+        roleService.getRoleById("001").setRoleName("CHANGED");
+        roleService.getRoleByName("ADMIN").setRoleId("999");
+        roleService.getAllRoles().get(0).setRoleName("CHANGED");
+
+        assertEquals("ADMIN", roleService.getRoleById("001").getRoleName());
+        assertEquals("001", roleService.getRoleByName("ADMIN").getRoleId());
+        assertEquals(List.of(new Role("001", "ADMIN")), roleService.getAllRoles());
+    }
+
+    @Test
+    void reloadsAfterCommitInANewReadOnlyTransaction() {
+        when(roleRepository.findAll()).thenReturn(List.of(new Role("001", "ADMIN")));
+        roleService.refresh();
+        Role driver = new Role("002", "DRIVER");
+        when(roleRepository.save(any(Role.class))).thenReturn(driver);
+        when(roleRepository.findAll()).thenReturn(List.of(new Role("001", "ADMIN"), driver));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            roleService.saveRole(driver);
+            assertThrows(RoleNotFoundException.class, () -> roleService.getRoleByName("DRIVER"));
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertEquals("002", roleService.getRoleByName("DRIVER").getRoleId());
+        ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+        verify(transactionManager, times(2)).getTransaction(definitions.capture());
+        for (TransactionDefinition definition : definitions.getAllValues()) {
+            assertEquals(TransactionDefinition.PROPAGATION_REQUIRES_NEW, definition.getPropagationBehavior());
+            assertTrue(definition.isReadOnly());
+        }
+    }
+}
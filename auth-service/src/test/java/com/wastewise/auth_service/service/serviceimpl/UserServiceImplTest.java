@@ -0,0 +1,94 @@
+package com.wastewise.auth_service.service.serviceimpl;
+
+import com.wastewise.auth_service.config.CacheConfig;
+import com.wastewise.auth_service.dto.UserCredentialsDTO;
+import com.wastewise.auth_service.repository.UserRepository;
+import com.wastewise.auth_service.service.UserService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * The credentials cache as configured by CacheConfig, around a mocked repository.
+ */
+@SpringJUnitConfig(UserServiceImplTest.Config.class)
+@TestPropertySource(properties = "wastewise.cache.users.spec=maximumSize=100")
+class UserServiceImplTest {
+
+    @Configuration
+    @Import({CacheConfig.class, UserServiceImpl.class})
+    static class Config {
+
+        @Bean
+        UserRepository userRepository() {
+            return mock(UserRepository.class);
+        }
+    }
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @BeforeEach
+    void clearCache() {
+        cacheManager.getCache(CacheConfig.USERS).clear();
+        clearInvocations(userRepository);
+    }
+
+    @Test
+    void credentialsAreLoadedOnce() {
+        when(userRepository.findCredentialsByWorkerId("W001"))
+                .thenReturn(Optional.of(new UserCredentialsDTO("W001", "$2a$10$hash", "003")));
+
+        assertEquals("$2a$10$hash", userService.getUserCredentials("W001").orElseThrow().getPasswordHash());
+        assertEquals("$2a$10$hash", userService.getUserCredentials("W001").orElseThrow().getPasswordHash());
+
+        verify(userRepository, times(1)).findCredentialsByWorkerId("W001");
+    }
+
+    @Test
+    void unknownWorkerIdsAreNotCached() {
+        when(userRepository.findCredentialsByWorkerId("W999")).thenReturn(Optional.empty());
+
+        assertTrue(userService.getUserCredentials("W999").isEmpty());
+        assertTrue(userService.getUserCredentials("W999").isEmpty());
+
+        verify(userRepository, times(2)).findCredentialsByWorkerId("W999");
+    }
+
+    @Test
+    void updatingTheHashEvictsTheCachedCredentials() {
+        when(userRepository.findCredentialsByWorkerId("W002"))
+                .thenReturn(Optional.of(new UserCredentialsDTO("W002", "$2a$08$old", "003")))
+                .thenReturn(Optional.of(new UserCredentialsDTO("W002", "$2a$10$new", "003")));
+        userService.getUserCredentials("W002");
+
+        userService.updatePasswordHash("W002", "$2a$10$new");
+
+        verify(userRepository).updatePassword(eq("W002"), eq("$2a$10$new"), any());
+        assertEquals("$2a$10$new", userService.getUserCredentials("W002").orElseThrow().getPasswordHash());
+    }
+}
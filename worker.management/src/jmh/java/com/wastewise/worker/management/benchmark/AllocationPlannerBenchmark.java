@@ -0,0 +1,72 @@
+package com.wastewise.worker.management.benchmark;
+
+import com.wastewise.worker.management.allocation.AllocationPlanner;
+import com.wastewise.worker.management.dto.WorkerAssignmentDTO;
+import com.wastewise.worker.management.enums.Shift;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Planning time of the allocation engine without the database: building the load heap over the available
+ * workers and filling every assignment up to two workers. A third of the workers have no recent assignment,
+ * the others up to 20. The default sizes leave the pool large enough to fill every position.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AllocationPlannerBenchmark {
+
+    @Param({"10000"})
+    public int assignments;
+
+    @Param({"50000"})
+    public int workers;
+
+    private List<String> workerIds;
+    private Map<String, Integer> loads;
+    private List<AllocationPlanner.Slot> slots;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        workerIds = new ArrayList<>(workers);
+        loads = new HashMap<>();
+        for (int i = 1; i <= workers; i++) {
+            String workerId = BenchmarkFleet.workerId(i);
+            workerIds.add(workerId);
+            if (i % 3 != 0) {
+                loads.put(workerId, 1 + random.nextInt(20));
+            }
+        }
+        slots = new ArrayList<>(assignments);
+        for (int i = 1; i <= assignments; i++) {
+            int zone = 1 + i % 50;
+            slots.add(new AllocationPlanner.Slot("A" + i, String.format("Z%03d", zone),
+                    String.format("Z%03d-R%03d", zone, 1 + i % 20), i % 2 == 0 ? Shift.DAY : Shift.NIGHT, 2));
+        }
+    }
+
+    @Benchmark
+    public List<WorkerAssignmentDTO> plan() {
+        return new AllocationPlanner(workerIds, loads).fill(slots);
+    }
+}
@@ -0,0 +1,84 @@
+package com.wastewise.worker.management.benchmark;
+
+import com.wastewise.worker.management.Application;
+import com.wastewise.worker.management.cache.AvailableWorkerIndex;
+import com.wastewise.worker.management.cache.UsedContactFilter;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Boots the service against a private in-memory H2 database (command line arguments, so they override
+ * application.properties) and seeds a worker fleet.
+ * The first half of the fleet is OCCUPIED in assignments of two workers (A000001 holds W001 and W002 ...),
+ * the second half is AVAILABLE.
+ */
+final class BenchmarkFleet {
+
+    private static final String[] ROLES = {"002", "003"};
+    private static final int SEED_BATCH = 1000;
+
+    private BenchmarkFleet() {
+    }
+
+    static ConfigurableApplicationContext start(String name, int fleetSize) {
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(Application.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:" + name + "-" + fleetSize + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE",
+                        "--spring.datasource.driver-class-name=org.h2.Driver",
+                        "--spring.datasource.username=sa",
+                        "--spring.datasource.password=",
+                        "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "--spring.jpa.hibernate.ddl-auto=create",
+                        "--spring.jpa.show-sql=false",
+                        "--wastewise.security.jwt.enabled=false",
+                        "--logging.file.name=",
+                        "--logging.level.root=WARN",
+                        "--logging.level.org.springframework=WARN");
+        seed(context.getBean(JdbcTemplate.class), fleetSize);
+        context.getBean(AvailableWorkerIndex.class).reload();
+        context.getBean(UsedContactFilter.class).load();
+        return context;
+    }
+
+    static String workerId(int number) {
+        return String.format("W%03d", number);
+    }
+
+    static String assignmentId(int number) {
+        return String.format("A%06d", number);
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate, int fleetSize) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int occupied = fleetSize / 2;
+        List<Object[]> workers = new ArrayList<>(SEED_BATCH);
+        List<Object[]> assignments = new ArrayList<>(SEED_BATCH);
+        for (int number = 1; number <= fleetSize; number++) {
+            String status = number <= occupied ? "OCCUPIED" : "AVAILABLE";
+            workers.add(new Object[]{workerId(number), "worker " + number, String.format("9%09d", number),
+                    "worker" + number + "@wastewise.com", status, ROLES[number % ROLES.length], "000", now});
+            if (number <= occupied) {
+                int assignment = (number + 1) / 2;
+                assignments.add(new Object[]{assignmentId(assignment), workerId(number),
+                        String.format("Z%03d", assignment % 50 + 1), String.format("Z%03d-R%03d", assignment % 50 + 1, assignment % 20 + 1),
+                        assignment % 2 == 0 ? "DAY" : "NIGHT", "000", now});
+            }
+            if (workers.size() == SEED_BATCH || number == fleetSize) {
+                jdbcTemplate.batchUpdate("INSERT INTO worker (worker_id, name, contact_number, contact_email, worker_status, " +
+                        "role_id, created_by, created_date, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0)", workers);
+                jdbcTemplate.batchUpdate("INSERT INTO worker_assignment (assignment_id, worker_id, zone_id, route_id, shift, " +
+                        "created_by, created_date) VALUES (?, ?, ?, ?, ?, ?, ?)", assignments);
+                workers.clear();
+                assignments.clear();
+            }
+        }
+    }
+}
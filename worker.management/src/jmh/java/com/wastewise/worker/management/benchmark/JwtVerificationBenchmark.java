@@ -0,0 +1,97 @@
+package com.wastewise.worker.management.benchmark;
+
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.wastewise.worker.management.security.JwtVerifier;
+import com.wastewise.worker.management.security.RequestPrincipal;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time the authentication filter spends on a request: the full RS256 check of a token seen for the first time,
+ * and the verified-token cache hit every later request of the same client takes. No network involved,
+ * the public key is held in memory like JwtKeyStore does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtVerificationBenchmark {
+
+    private static final String ISSUER = "wastewise-auth-service";
+
+    @Param({"1000"})
+    private int activeTokens;
+
+    private String[] tokens;
+    private int next;
+    private RSAKey key;
+    private JWSVerifier signatureVerifier;
+    private JwtVerifier jwtVerifier;
+
+    @Setup
+    public void setUp() throws Exception {
+        key = new RSAKeyGenerator(2048).keyIDFromThumbprint(true).generate();
+        signatureVerifier = new RSASSAVerifier(key.toPublicJWK());
+        jwtVerifier = new JwtVerifier(keyId -> key.getKeyID().equals(keyId) ? signatureVerifier : null,
+                ISSUER, Duration.ofSeconds(60), 10_000, Clock.systemUTC());
+
+        RSASSASigner signer = new RSASSASigner(key);
+        Instant now = Instant.now();
+        tokens = new String[activeTokens];
+        for (int i = 0; i < activeTokens; i++) {
+            SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(key.getKeyID()).build(),
+                    new JWTClaimsSet.Builder()
+                            .issuer(ISSUER)
+                            .subject(String.format("W%03d", i + 1))
+                            .issueTime(Date.from(now))
+                            .expirationTime(Date.from(now.plus(1, ChronoUnit.HOURS)))
+                            .claim("role", "ADMIN")
+                            .claim("roleId", "001")
+                            .build());
+            jwt.sign(signer);
+            tokens[i] = jwt.serialize();
+        }
+    }
+
+    private String nextToken() {
+        String token = tokens[next];
+        next = next + 1 == tokens.length ? 0 : next + 1;
+        return token;
+    }
+
+    @Benchmark
+    public boolean signatureVerification() throws Exception {
+        return SignedJWT.parse(nextToken()).verify(signatureVerifier);
+    }
+
+    @Benchmark
+    public RequestPrincipal cachedVerification() {
+        return jwtVerifier.verify(nextToken());
+    }
+}
@@ -0,0 +1,105 @@
+package com.wastewise.worker.management.benchmark;
+
+import com.wastewise.worker.management.enums.WorkerStatus;
+import com.wastewise.worker.management.event.WorkerStatusChangedEvent;
+import com.wastewise.worker.management.model.Worker;
+import com.wastewise.worker.management.model.WorkerAssignment;
+import com.wastewise.worker.management.model.WorkerAssignmentId;
+import com.wastewise.worker.management.repository.WorkerAssignmentRepository;
+import com.wastewise.worker.management.repository.WorkerRepository;
+import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Baseline for the reassignment benchmark: the entity based load / delete / save implementation
+ * that WorkerAssignmentServiceImpl used before the set-based statements, error checks left out.
+ */
+final class LegacyReassignment {
+
+    private final WorkerAssignmentRepository workerAssignmentRepository;
+    private final WorkerRepository workerRepository;
+    private final ApplicationContext eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    LegacyReassignment(ApplicationContext context) {
+        this.workerAssignmentRepository = context.getBean(WorkerAssignmentRepository.class);
+        this.workerRepository = context.getBean(WorkerRepository.class);
+        this.eventPublisher = context;
+        this.transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+    }
+
+    void updateSingle(String assignmentId, String oldWorkerId, String newWorkerId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            WorkerAssignmentId oldId = new WorkerAssignmentId(assignmentId, oldWorkerId);
+            WorkerAssignmentId newId = new WorkerAssignmentId(assignmentId, newWorkerId);
+            workerAssignmentRepository.existsById(oldId);
+            workerAssignmentRepository.existsById(newId);
+            Worker newWorker = workerRepository.findById(newWorkerId).orElseThrow();
+            WorkerAssignment oldAssignment = workerAssignmentRepository.findById(oldId).orElseThrow();
+            workerAssignmentRepository.deleteById(oldId);
+            workerAssignmentRepository.save(copy(oldAssignment, newId, newWorker));
+
+            Worker oldWorker = workerRepository.findById(oldWorkerId).orElseThrow();
+            oldWorker.setWorkerStatus(WorkerStatus.AVAILABLE);
+            newWorker.setWorkerStatus(WorkerStatus.OCCUPIED);
+            workerRepository.saveAll(List.of(oldWorker, newWorker));
+            publish(oldWorkerId, WorkerStatus.OCCUPIED, WorkerStatus.AVAILABLE);
+            publish(newWorkerId, WorkerStatus.AVAILABLE, WorkerStatus.OCCUPIED);
+        });
+    }
+
+    void updateBoth(String assignmentId, String oldWorkerId1, String oldWorkerId2,
+                    String newWorkerId1, String newWorkerId2) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<WorkerAssignmentId> oldIds = List.of(
+                    new WorkerAssignmentId(assignmentId, oldWorkerId1),
+                    new WorkerAssignmentId(assignmentId, oldWorkerId2));
+            List<WorkerAssignment> oldAssignments = workerAssignmentRepository.findAllById(oldIds);
+            List<String> newWorkerIds = List.of(newWorkerId1, newWorkerId2);
+            List<Worker> newWorkers = workerRepository.findAllById(newWorkerIds);
+            workerAssignmentRepository.deleteAllById(oldIds);
+
+            List<WorkerAssignment> newAssignments = new ArrayList<>();
+            for (int i = 0; i < 2; i++) {
+                newAssignments.add(copy(oldAssignments.get(i),
+                        new WorkerAssignmentId(assignmentId, newWorkerIds.get(i)), newWorkers.get(i)));
+            }
+            workerAssignmentRepository.saveAll(newAssignments);
+
+            List<Worker> oldWorkers = workerRepository.findAllById(List.of(oldWorkerId1, oldWorkerId2));
+            for (Worker w : oldWorkers) {
+                w.setWorkerStatus(WorkerStatus.AVAILABLE);
+                publish(w.getWorkerId(), WorkerStatus.OCCUPIED, WorkerStatus.AVAILABLE);
+            }
+            for (Worker w : newWorkers) {
+                w.setWorkerStatus(WorkerStatus.OCCUPIED);
+                publish(w.getWorkerId(), WorkerStatus.AVAILABLE, WorkerStatus.OCCUPIED);
+            }
+            workerRepository.saveAll(oldWorkers);
+            workerRepository.saveAll(newWorkers);
+        });
+    }
+
+    private static WorkerAssignment copy(WorkerAssignment old, WorkerAssignmentId id, Worker worker) {
+        WorkerAssignment assignment = new WorkerAssignment();
+        assignment.setId(id);
+        assignment.setWorker(worker);
+        assignment.setZoneId(old.getZoneId());
+        assignment.setRouteId(old.getRouteId());
+        assignment.setShift(old.getShift());
+        assignment.setCreatedBy(old.getCreatedBy());
+        assignment.setCreatedDate(old.getCreatedDate());
+        assignment.setUpdatedBy("000");
+        assignment.setUpdatedDate(LocalDateTime.now());
+        return assignment;
+    }
+
+    private void publish(String workerId, WorkerStatus previousStatus, WorkerStatus newStatus) {
+        eventPublisher.publishEvent(new WorkerStatusChangedEvent(workerId, null, previousStatus, newStatus));
+    }
+}
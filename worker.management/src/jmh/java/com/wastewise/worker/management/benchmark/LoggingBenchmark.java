@@ -0,0 +1,74 @@
+package com.wastewise.worker.management.benchmark;
+
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.joran.JoranConfigurator;
+import ch.qos.logback.core.joran.spi.JoranException;
+import com.wastewise.worker.management.service.serviceimpl.WorkerServiceImpl;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Time a request thread spends logging the INFO lines of a typical admin call, with the previous
+ * synchronous file appender (sync-pattern) and the asynchronous JSON appender of logback-spring.xml
+ * (async-json). Only the file appenders are configured, console output is left out of both.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(4)
+@Fork(1)
+public class LoggingBenchmark {
+
+    @Param({"sync-pattern", "async-json"})
+    public String configuration;
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private LoggerContext loggerContext;
+    private Logger log;
+
+    @Setup
+    public void setUp() throws JoranException {
+        loggerContext = (LoggerContext) LoggerFactory.getILoggerFactory();
+        loggerContext.reset();
+        // the structured encoder reads its settings from the Spring environment
+        loggerContext.putObject(Environment.class.getName(), new StandardEnvironment());
+        loggerContext.putProperty("LOG_DIR", "target/jmh-logs/" + configuration);
+        JoranConfigurator configurator = new JoranConfigurator();
+        configurator.setContext(loggerContext);
+        configurator.doConfigure(getClass().getResource("/logback-" + configuration + ".xml"));
+        log = LoggerFactory.getLogger(WorkerServiceImpl.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        loggerContext.stop();
+    }
+
+    @Benchmark
+    public void request() {
+        String workerId = BenchmarkFleet.workerId(requests.incrementAndGet() % 1000 + 1);
+        log.info("Finding worker with id {}", workerId);
+        log.info("Updating worker {} with status {}", workerId, "OCCUPIED");
+        log.info("Worker {} updated successfully", workerId);
+    }
+}
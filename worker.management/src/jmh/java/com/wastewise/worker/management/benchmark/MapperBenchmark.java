@@ -0,0 +1,92 @@
+package com.wastewise.worker.management.benchmark;
+
+import com.wastewise.worker.management.dto.WorkerAssignmentDTO;
+import com.wastewise.worker.management.dto.WorkerCreateDTO;
+import com.wastewise.worker.management.dto.WorkerDTO;
+import com.wastewise.worker.management.dto.WorkerUpdateDTO;
+import com.wastewise.worker.management.enums.Shift;
+import com.wastewise.worker.management.enums.WorkerStatus;
+import com.wastewise.worker.management.mapper.WorkerAssignmentMapper;
+import com.wastewise.worker.management.mapper.WorkerMapper;
+import com.wastewise.worker.management.model.Worker;
+import com.wastewise.worker.management.model.WorkerAssignment;
+import com.wastewise.worker.management.model.WorkerAssignmentId;
+import org.mapstruct.factory.Mappers;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity/DTO conversions of the MapStruct mappers, no database involved.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    private final WorkerMapper workerMapper = Mappers.getMapper(WorkerMapper.class);
+    private final WorkerAssignmentMapper workerAssignmentMapper = Mappers.getMapper(WorkerAssignmentMapper.class);
+
+    private Worker worker;
+    private WorkerCreateDTO createDTO;
+    private WorkerUpdateDTO updateDTO;
+    private WorkerAssignment assignment;
+
+    @Setup
+    public void setUp() {
+        worker = new Worker("W001", "worker 1", "9000000001", "worker1@wastewise.com", WorkerStatus.AVAILABLE,
+                "003", "000", LocalDateTime.now(), "000", LocalDateTime.now(), 0L);
+
+        createDTO = new WorkerCreateDTO();
+        createDTO.setName("worker 1");
+        createDTO.setContactNumber("9000000001");
+        createDTO.setContactEmail("worker1@wastewise.com");
+        createDTO.setRoleId("003");
+        createDTO.setWorkerStatus("AVAILABLE");
+
+        updateDTO = new WorkerUpdateDTO();
+        updateDTO.setName("worker one");
+        updateDTO.setContactNumber("9000000002");
+        updateDTO.setContactEmail("worker.one@wastewise.com");
+        updateDTO.setRoleId("002");
+        updateDTO.setWorkerStatus("OCCUPIED");
+
+        assignment = new WorkerAssignment(new WorkerAssignmentId("A001", "W001"), worker, "Z001", "Z001-R001",
+                Shift.DAY, "000", LocalDateTime.now(), null, null);
+    }
+
+    @Benchmark
+    public WorkerDTO workerToDTO() {
+        return workerMapper.toDTO(worker);
+    }
+
+    @Benchmark
+    public Worker createDTOToEntity() {
+        return workerMapper.toEntity(createDTO);
+    }
+
+    @Benchmark
+    public Worker updateEntityFromDTO() {
+        Worker target = new Worker();
+        workerMapper.updateWorkerFromDTO(updateDTO, target);
+        return target;
+    }
+
+    @Benchmark
+    public WorkerAssignmentDTO assignmentToDTO() {
+        return workerAssignmentMapper.toDTO(assignment);
+    }
+}
@@ -0,0 +1,119 @@
+package com.wastewise.worker.management.benchmark;
+
+import com.wastewise.worker.management.service.WorkerAssignmentService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Latency of replacing one or both workers of an assignment, the set-based service methods against the
+ * previous entity based implementation (legacy*). Every invocation swaps the workers back and forth
+ * between an assigned pair and two available spares, so the fleet state stays the same.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WorkerReassignmentBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int fleetSize;
+
+    private ConfigurableApplicationContext context;
+    private WorkerAssignmentService workerAssignmentService;
+    private LegacyReassignment legacyReassignment;
+
+    // one assignment per benchmark method, so their swaps never interfere
+    private final Swap single = new Swap(1, 1);
+    private final Swap both = new Swap(2, 3);
+    private final Swap legacySingle = new Swap(3, 5);
+    private final Swap legacyBoth = new Swap(4, 7);
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkFleet.start("reassignment", fleetSize);
+        workerAssignmentService = context.getBean(WorkerAssignmentService.class);
+        legacyReassignment = new LegacyReassignment(context);
+        for (Swap swap : new Swap[]{single, both, legacySingle, legacyBoth}) {
+            swap.spareOffset = fleetSize / 2;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public String updateSingleWorkerAssignment() {
+        String result = workerAssignmentService.updateSingleWorkerAssignment(single.assignmentId(), single.current(0), single.other(0));
+        single.flip();
+        return result;
+    }
+
+    @Benchmark
+    public String updateBothWorkerAssignments() {
+        String result = workerAssignmentService.updateBothWorkerAssignments(both.assignmentId(),
+                both.current(0), both.current(1), both.other(0), both.other(1));
+        both.flip();
+        return result;
+    }
+
+    @Benchmark
+    public void legacyUpdateSingleWorkerAssignment() {
+        legacyReassignment.updateSingle(legacySingle.assignmentId(), legacySingle.current(0), legacySingle.other(0));
+        legacySingle.flip();
+    }
+
+    @Benchmark
+    public void legacyUpdateBothWorkerAssignments() {
+        legacyReassignment.updateBoth(legacyBoth.assignmentId(),
+                legacyBoth.current(0), legacyBoth.current(1), legacyBoth.other(0), legacyBoth.other(1));
+        legacyBoth.flip();
+    }
+
+    /**
+     * Seeded assignment n holds workers 2n-1 and 2n, the spares are the same numbers in the available half
+     */
+    private static final class Swap {
+        private final int assignment;
+        private final int firstWorker;
+        private int spareOffset;
+        private boolean swapped;
+
+        private Swap(int assignment, int firstWorker) {
+            this.assignment = assignment;
+            this.firstWorker = firstWorker;
+        }
+
+        String assignmentId() {
+            return BenchmarkFleet.assignmentId(assignment);
+        }
+
+        String current(int index) {
+            return BenchmarkFleet.workerId(firstWorker + index + (swapped ? spareOffset : 0));
+        }
+
+        String other(int index) {
+            return BenchmarkFleet.workerId(firstWorker + index + (swapped ? 0 : spareOffset));
+        }
+
+        void flip() {
+            swapped = !swapped;
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package com.wastewise.worker.management.benchmark;
+
+import com.wastewise.worker.management.dto.WorkerCreateDTO;
+import com.wastewise.worker.management.dto.WorkerPageDTO;
+import com.wastewise.worker.management.service.WorkerService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Reads and writes of WorkerServiceImpl against fleets of 1k, 10k and 100k workers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WorkerServiceBenchmark {
+
+    private static final int PAGE_SIZE = 100;
+
+    @Param({"1000", "10000", "100000"})
+    public int fleetSize;
+
+    private ConfigurableApplicationContext context;
+    private WorkerService workerService;
+    private String middleWorkerId;
+    private long contactSequence;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkFleet.start("workers", fleetSize);
+        workerService = context.getBean(WorkerService.class);
+        middleWorkerId = BenchmarkFleet.workerId(fleetSize / 2);
+        contactSequence = 8_000_000_000L;
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public WorkerPageDTO getAllWorkersFirstPage() {
+        return workerService.getAllWorkers(null, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public WorkerPageDTO getAllWorkersMiddlePage() {
+        return workerService.getAllWorkers(middleWorkerId, PAGE_SIZE);
+    }
+
+    @Benchmark
+    public void streamAllWorkers(Blackhole blackhole) {
+        workerService.streamAllWorkers(blackhole::consume);
+    }
+
+    @Benchmark
+    public List<String> getAllAvailableWorkerIds() {
+        return workerService.getAllAvailableWorkerIds("003");
+    }
+
+    @Benchmark
+    public String createWorker() {
+        long contact = contactSequence++;
+        WorkerCreateDTO dto = new WorkerCreateDTO();
+        dto.setName("new worker " + contact);
+        dto.setContactNumber(Long.toString(contact));
+        dto.setContactEmail("new" + contact + "@wastewise.com");
+        dto.setRoleId("003");
+        dto.setWorkerStatus("AVAILABLE");
+        return workerService.createWorker(dto);
+    }
+}
@@ -0,0 +1,86 @@
+package com.wastewise.worker.management.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Canned zone and route service for exercising the Feign clients, circuit breakers and caches locally:
+ * GET /wastewise/admin/zones/Z001 and /wastewise/admin/routes/Z001-R001 answer with JSON for any well-formed id,
+ * zone Z999 and the routes of zone Z999 answer 404. Every answer is delayed by the given latency and the given
+ * share of requests fails with a 503. GET /stats returns the number of requests served so far.
+ * Point both wastewise.zone-service.url and wastewise.route-service.url at it.
+ * Arguments: port (8087), latency in ms (0), failure rate between 0 and 1 (0)
+ */
+public final class DownstreamStubServer {
+
+    private static final Pattern ZONE = Pattern.compile("/wastewise/admin/zones/(Z\\d{3})");
+    private static final Pattern ROUTE = Pattern.compile("/wastewise/admin/routes/((Z\\d{3})-R\\d{3})");
+    private static final String MISSING_ZONE = "Z999";
+
+    private final long latencyMillis;
+    private final double failureRate;
+    private final AtomicLong requests = new AtomicLong();
+
+    private DownstreamStubServer(long latencyMillis, double failureRate) {
+        this.latencyMillis = latencyMillis;
+        this.failureRate = failureRate;
+    }
+
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 8087;
+        DownstreamStubServer stub = new DownstreamStubServer(args.length > 1 ? Long.parseLong(args[1]) : 0,
+                args.length > 2 ? Double.parseDouble(args[2]) : 0);
+        HttpServer server = HttpServer.create(new InetSocketAddress(port), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/wastewise/admin/", stub::handle);
+        server.createContext("/stats", exchange -> respond(exchange, 200, "{\"requests\":" + stub.requests.get() + "}"));
+        server.start();
+        System.out.printf("Zone and route stub listening on %d, latency %dms, failure rate %.2f%n",
+                port, stub.latencyMillis, stub.failureRate);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        if (latencyMillis > 0) {
+            try {
+                Thread.sleep(latencyMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (ThreadLocalRandom.current().nextDouble() < failureRate) {
+            respond(exchange, 503, "{\"error\":\"stubbed failure\"}");
+            return;
+        }
+        String path = exchange.getRequestURI().getPath();
+        Matcher zone = ZONE.matcher(path);
+        Matcher route = ROUTE.matcher(path);
+        if (zone.matches() && !MISSING_ZONE.equals(zone.group(1))) {
+            respond(exchange, 200, String.format("{\"zoneId\":\"%s\",\"zoneName\":\"Zone %s\"}", zone.group(1), zone.group(1)));
+        } else if (route.matches() && !MISSING_ZONE.equals(route.group(2))) {
+            respond(exchange, 200, String.format("{\"routeId\":\"%s\",\"zoneId\":\"%s\",\"routeName\":\"Route %s\"}",
+                    route.group(1), route.group(2), route.group(1)));
+        } else {
+            respond(exchange, 404, "{\"error\":\"not found\"}");
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int status, String json) throws IOException {
+        byte[] body = json.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+}
@@ -0,0 +1,267 @@
+package com.wastewise.worker.management.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load test against a running worker-management instance: every client is a virtual thread
+ * sending its next request as soon as the previous one returns. Prints throughput and latency percentiles for
+ * GET /workers/{id} and the single assignment POST.
+ * Run it once against the service started with spring.threads.virtual.enabled=true and once with false to
+ * compare the two execution modes.
+ * With an access token, every scenario also prints what the authentication filter added to its requests: the
+ * wastewise.auth.verification histogram is read from /actuator/prometheus before and after the measured phase,
+ * and its p99 is the upper bound of the bucket holding the 99th percentile of the verifications in between.
+ * Running it again without a token against wastewise.security.jwt.enabled=false gives the end-to-end comparison,
+ * which is only meaningful on a host quiet enough that run-to-run variance stays well below a millisecond.
+ * The filter's p99 is wall time: when the clients share the service's CPUs it includes the time the request
+ * thread was descheduled, the verification work alone is measured by JwtVerificationBenchmark.
+ * Arguments: base url (http://localhost:8086), clients (1000), seconds per scenario (30), access token (none)
+ */
+public final class WorkerLoadTest {
+
+    private static final String ADMIN = "/wastewise/admin";
+    // assignment ids are limited to A000 - A999
+    private static final int MAX_ASSIGNMENT_CLIENTS = 1000;
+    private static final String AUTH_BUCKET_METRIC = "wastewise_auth_verification_seconds_bucket";
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final String accessToken;
+
+    private WorkerLoadTest(String baseUrl, String accessToken) {
+        this.baseUrl = baseUrl;
+        this.accessToken = accessToken;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        String baseUrl = args.length > 0 ? args[0] : "http://localhost:8086";
+        int clients = args.length > 1 ? Integer.parseInt(args[1]) : 1000;
+        Duration duration = Duration.ofSeconds(args.length > 2 ? Long.parseLong(args[2]) : 30);
+        String accessToken = args.length > 3 ? args[3] : null;
+
+        WorkerLoadTest loadTest = new WorkerLoadTest(baseUrl, accessToken);
+        List<String> workerIds = loadTest.createWorkers(clients);
+        System.out.printf("Created %d workers, %d clients, %ds per scenario%n", workerIds.size(), clients, duration.toSeconds());
+
+        loadTest.run("GET /workers/{id}", clients, duration, client ->
+                loadTest.get(ADMIN + "/workers/" + workerIds.get(client)));
+
+        int assignmentClients = Math.min(clients, MAX_ASSIGNMENT_CLIENTS);
+        loadTest.run("POST /worker-assignments/{id}", assignmentClients, duration, client -> {
+            String assignmentId = String.format("A%03d", client);
+            String body = String.format("{\"assignmentId\":\"%s\",\"workerId\":\"%s\",\"zoneId\":\"Z001\"," +
+                    "\"routeId\":\"Z001-R001\",\"shift\":\"DAY\"}", assignmentId, workerIds.get(client));
+            return loadTest.post(ADMIN + "/worker-assignments/" + assignmentId, body);
+        }, client -> loadTest.delete(ADMIN + "/worker-assignments/" + String.format("A%03d", client)));
+    }
+
+    /**
+     * Creates one AVAILABLE worker per client through the bulk endpoint
+     */
+    private List<String> createWorkers(int count) throws IOException, InterruptedException {
+        long firstContact = 7_000_000_000L + (System.currentTimeMillis() % 1_000_000) * 1000;
+        List<String> ids = new ArrayList<>(count);
+        for (int start = 0; start < count; start += 1000) {
+            StringBuilder body = new StringBuilder("[");
+            for (int i = start; i < Math.min(count, start + 1000); i++) {
+                if (i > start) {
+                    body.append(',');
+                }
+                body.append(String.format("{\"name\":\"load %d\",\"contactNumber\":\"%d\",\"roleId\":\"003\",\"workerStatus\":\"AVAILABLE\"}",
+                        i, firstContact + i));
+            }
+            HttpResponse<String> response = send(HttpRequest.newBuilder(URI.create(baseUrl + ADMIN + "/workers/bulk"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body.append(']').toString())));
+            for (JsonNode result : objectMapper.readTree(response.body()).path("results")) {
+                if (result.path("created").asBoolean()) {
+                    ids.add(result.path("workerId").asText());
+                }
+            }
+        }
+        if (ids.size() < count) {
+            throw new IllegalStateException("Only " + ids.size() + " of " + count + " workers could be created");
+        }
+        return ids;
+    }
+
+    private void run(String name, int clients, Duration duration, Request request) throws InterruptedException {
+        run(name, clients, duration, request, null);
+    }
+
+    /**
+     * Runs the scenario for a warm-up of a fifth of the duration and then for the measured duration.
+     * The optional reset request runs after every measured request and is not timed.
+     */
+    private void run(String name, int clients, Duration duration, Request request, Request reset) throws InterruptedException {
+        phase(clients, duration.dividedBy(5), request, reset, null);
+        Recorder[] recorders = new Recorder[clients];
+        NavigableMap<Double, Long> authBefore = authBuckets();
+        long started = System.nanoTime();
+        phase(clients, duration, request, reset, recorders);
+        double seconds = (System.nanoTime() - started) / 1e9;
+        NavigableMap<Double, Long> authAfter = authBuckets();
+
+        long errors = Arrays.stream(recorders).mapToLong(recorder -> recorder.errors).sum();
+        long[] latencies = Arrays.stream(recorders).flatMapToLong(recorder -> Arrays.stream(recorder.latencies, 0, recorder.size)).sorted().toArray();
+        System.out.printf("%-32s requests=%d errors=%d throughput=%.0f/s p50=%.2fms p99=%.2fms max=%.2fms%n",
+                name, latencies.length, errors, latencies.length / seconds,
+                percentile(latencies, 0.50), percentile(latencies, 0.99), percentile(latencies, 1.0));
+        printAuthLatency(authBefore, authAfter);
+    }
+
+    /**
+     * Cumulative counts of the accepted-token buckets of wastewise.auth.verification by upper bound in seconds,
+     * empty when no access token is used
+     */
+    private NavigableMap<Double, Long> authBuckets() throws InterruptedException {
+        NavigableMap<Double, Long> buckets = new TreeMap<>();
+        if (accessToken == null) {
+            return buckets;
+        }
+        String metrics;
+        try {
+            metrics = send(HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/prometheus")).GET()).body();
+        } catch (IOException e) {
+            System.out.printf("Could not read the authentication metrics: %s%n", e.getMessage());
+            return buckets;
+        }
+        for (String line : metrics.split("\n")) {
+            if (!line.startsWith(AUTH_BUCKET_METRIC + "{") || !line.contains("outcome=\"accepted\"")) {
+                continue;
+            }
+            int boundStart = line.indexOf("le=\"") + 4;
+            String bound = line.substring(boundStart, line.indexOf('"', boundStart));
+            double count = Double.parseDouble(line.substring(line.lastIndexOf(' ') + 1));
+            buckets.put(bound.equals("+Inf") ? Double.POSITIVE_INFINITY : Double.parseDouble(bound), (long) count);
+        }
+        return buckets;
+    }
+
+    private static void printAuthLatency(NavigableMap<Double, Long> before, NavigableMap<Double, Long> after) {
+        long total = after.getOrDefault(Double.POSITIVE_INFINITY, 0L) - before.getOrDefault(Double.POSITIVE_INFINITY, 0L);
+        if (total <= 0) {
+            return;
+        }
+        double p99 = Double.POSITIVE_INFINITY;
+        for (Map.Entry<Double, Long> bucket : after.entrySet()) {
+            if (bucket.getValue() - before.getOrDefault(bucket.getKey(), 0L) >= Math.ceil(total * 0.99)) {
+                p99 = bucket.getKey();
+                break;
+            }
+        }
+        long underOneMilli = after.getOrDefault(0.001, 0L) - before.getOrDefault(0.001, 0L);
+        System.out.printf("%-32s verifications=%d under 1ms=%.2f%% p99<=%.3fms%n", "  authentication filter",
+                total, 100.0 * underOneMilli / total, p99 * 1e3);
+    }
+
+    private void phase(int clients, Duration duration, Request request, Request reset, Recorder[] recorders)
+            throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        AtomicLong failures = new AtomicLong();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int client = 0; client < clients; client++) {
+                int id = client;
+                Recorder recorder = new Recorder();
+                if (recorders != null) {
+                    recorders[client] = recorder;
+                }
+                executor.submit(() -> {
+                    while (System.nanoTime() < deadline) {
+                        long start = System.nanoTime();
+                        try {
+                            int status = request.send(id);
+                            recorder.record(System.nanoTime() - start, status < 400);
+                            if (reset != null) {
+                                reset.send(id);
+                            }
+                        } catch (IOException e) {
+                            failures.incrementAndGet();
+                            recorder.record(System.nanoTime() - start, false);
+                        }
+                    }
+                    return null;
+                });
+            }
+        }
+        if (failures.get() > 0) {
+            System.out.printf("%d requests failed with an I/O error%n", failures.get());
+        }
+    }
+
+    private int get(String path) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + path)).GET()).statusCode();
+    }
+
+    private int post(String path, String json) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json))).statusCode();
+    }
+
+    private int delete(String path) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(URI.create(baseUrl + path)).DELETE()).statusCode();
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws IOException, InterruptedException {
+        if (accessToken != null) {
+            request.header("Authorization", "Bearer " + accessToken);
+        }
+        return httpClient.send(request.timeout(Duration.ofSeconds(30)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static double percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    @FunctionalInterface
+    private interface Request {
+        int send(int client) throws IOException, InterruptedException;
+    }
+
+    /**
+     * Latencies of one client, only written by that client's thread
+     */
+    private static final class Recorder {
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+
+        void record(long nanos, boolean success) {
+            if (!success) {
+                errors++;
+            }
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = nanos;
+        }
+    }
+}
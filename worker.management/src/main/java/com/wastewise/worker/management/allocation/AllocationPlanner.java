@@ -0,0 +1,84 @@
+package com.wastewise.worker.management.allocation;
+
+import com.wastewise.worker.management.dto.WorkerAssignmentDTO;
+import com.wastewise.worker.management.enums.Shift;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Chooses workers for open assignment positions, least loaded worker first. The candidates go into a min-heap
+ * ordered by load (built in linear time) and only as many are taken out as there are open positions, so planning
+ * costs O(W + P log W) for W candidates and P positions instead of sorting the whole pool. Positions are filled
+ * round by round: every assignment gets its first worker before any gets its second, so a pool that is too small
+ * still staffs as many assignments as possible. Not thread-safe, one planner per allocation.
+ */
+public final class AllocationPlanner {
+
+    /**
+     * @param openPositions number of workers the assignment still needs
+     */
+    public record Slot(String assignmentId, String zoneId, String routeId, Shift shift, int openPositions) {
+    }
+
+    private record Candidate(String workerId, int load) implements Comparable<Candidate> {
+        @Override
+        public int compareTo(Candidate other) {
+            int byLoad = Integer.compare(load, other.load);
+            return byLoad != 0 ? byLoad : workerId.compareTo(other.workerId);
+        }
+    }
+
+    private final PriorityQueue<Candidate> pool;
+
+    /**
+     * @param workerIds available workers
+     * @param loads recent number of assignments per worker, missing workers count as 0
+     */
+    public AllocationPlanner(Collection<String> workerIds, Map<String, Integer> loads) {
+        List<Candidate> candidates = new ArrayList<>(workerIds.size());
+        for (String workerId : workerIds) {
+            candidates.add(new Candidate(workerId, loads.getOrDefault(workerId, 0)));
+        }
+        // the collection constructor heapifies in O(n)
+        this.pool = new PriorityQueue<>(candidates);
+    }
+
+    /**
+     * Takes a worker from the pool for every open position, each worker is used at most once
+     * @return one workerAssignmentDTO per filled position, fewer than requested when the pool runs out
+     */
+    public List<WorkerAssignmentDTO> fill(List<Slot> slots) {
+        int rounds = 0;
+        int positions = 0;
+        for (Slot slot : slots) {
+            rounds = Math.max(rounds, slot.openPositions());
+            positions += slot.openPositions();
+        }
+        List<WorkerAssignmentDTO> planned = new ArrayList<>(Math.min(positions, pool.size()));
+        for (int round = 0; round < rounds; round++) {
+            for (Slot slot : slots) {
+                if (slot.openPositions() <= round) {
+                    continue;
+                }
+                Candidate candidate = pool.poll();
+                if (candidate == null) {
+                    return planned;
+                }
+                planned.add(new WorkerAssignmentDTO(slot.assignmentId(), candidate.workerId(),
+                        slot.zoneId(), slot.routeId(), slot.shift()));
+            }
+        }
+        return planned;
+    }
+
+    /**
+     * @return number of workers not handed out yet
+     */
+    public int remaining() {
+        return pool.size();
+    }
+}
@@ -0,0 +1,95 @@
+package com.wastewise.worker.management.allocation;
+
+import com.wastewise.worker.management.event.AssignmentChangedEvent;
+import com.wastewise.worker.management.repository.AssignmentHistoryRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Counts the committed assignments of every worker (new assignments and reassignments to the worker) per day over
+ * the last load-window. The counts start from the assignment history while the bean is initialised, before the
+ * web server and the scheduled jobs start, so no assignment is counted both in the history and live; they are kept
+ * in memory from then on, so an allocation does not have to aggregate the history table. Days that fall out of
+ * the window are dropped, so the load is always that of the window, not of the time since the last restart.
+ */
+@Slf4j
+@Component
+public class AssignmentLoadTracker implements WorkerLoadSource {
+
+    private final NavigableMap<LocalDate, Map<String, Integer>> countsByDay = new ConcurrentSkipListMap<>();
+
+    private final AssignmentHistoryRepository assignmentHistoryRepository;
+
+    private final Duration loadWindow;
+
+    private final Clock clock;
+
+    @Autowired
+    public AssignmentLoadTracker(AssignmentHistoryRepository assignmentHistoryRepository,
+                                 @Value("${wastewise.allocation.load-window:P30D}") Duration loadWindow) {
+        this(assignmentHistoryRepository, loadWindow, Clock.systemDefaultZone());
+    }
+
+    AssignmentLoadTracker(AssignmentHistoryRepository assignmentHistoryRepository, Duration loadWindow, Clock clock) {
+        this.assignmentHistoryRepository = assignmentHistoryRepository;
+        this.loadWindow = loadWindow;
+        this.clock = clock;
+    }
+
+    /**
+     * Replaces the counts with those of the history
+     */
+    @PostConstruct
+    public void loadHistory() {
+        Map<LocalDate, Map<String, Integer>> counts =
+                assignmentHistoryRepository.countAssignmentsByDayAndWorkerSince(firstDayOfWindow().atStartOfDay());
+        countsByDay.clear();
+        counts.forEach((day, workerCounts) -> countsOf(day).putAll(workerCounts));
+        log.info("Loaded the assignment counts of {} days from the last {}", counts.size(), loadWindow);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssignmentChanged(AssignmentChangedEvent event) {
+        if (event.type() != AssignmentChangedEvent.Type.DELETE) {
+            countsOf(LocalDate.now(clock)).merge(event.workerId(), 1, Integer::sum);
+        }
+    }
+
+    @Override
+    public Map<String, Integer> loadsOf(Collection<String> workerIds) {
+        countsByDay.headMap(firstDayOfWindow()).clear();
+        Map<String, Integer> loads = new HashMap<>();
+        for (Map<String, Integer> workerCounts : countsByDay.values()) {
+            for (String workerId : workerIds) {
+                Integer count = workerCounts.get(workerId);
+                if (count != null) {
+                    loads.merge(workerId, count, Integer::sum);
+                }
+            }
+        }
+        return loads;
+    }
+
+    private Map<String, Integer> countsOf(LocalDate day) {
+        return countsByDay.computeIfAbsent(day, d -> new ConcurrentHashMap<>());
+    }
+
+    // the window is counted in whole days, today included
+    private LocalDate firstDayOfWindow() {
+        return LocalDate.now(clock).minusDays(Math.max(1, loadWindow.toDays()) - 1);
+    }
+}
@@ -0,0 +1,16 @@
+package com.wastewise.worker.management.allocation;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Recent workload of the workers, used by the allocation engine to spread assignments evenly
+ */
+public interface WorkerLoadSource {
+
+    /**
+     * @param workerIds workers the caller is interested in
+     * @return number of recent assignments of the given workers, workers without any may be missing
+     */
+    Map<String, Integer> loadsOf(Collection<String> workerIds);
+}
@@ -0,0 +1,149 @@
+package com.wastewise.worker.management.cache;
+
+import com.wastewise.worker.management.dto.WorkerRoleStatusDTO;
+import com.wastewise.worker.management.enums.WorkerStatus;
+import com.wastewise.worker.management.event.WorkerStatusChangedEvent;
+import com.wastewise.worker.management.repository.WorkerRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory index of the AVAILABLE workers grouped by role, so dispatch screens do not scan the worker table.
+ * It is loaded from the database once the application is ready, kept in sync by the
+ * WorkerStatusChangedEvents of committed transactions and reloaded periodically to repair any drift.
+ * Events arriving while a reload reads the database may be missing from what it read, they are replayed on top
+ * of it. Until the first load finishes, lookups go to the database.
+ */
+@Slf4j
+@Component
+public class AvailableWorkerIndex {
+
+    private final WorkerRepository workerRepository;
+
+    // role of every known worker, needed when an event does not carry the role
+    private final Map<String, String> workerRoles = new ConcurrentHashMap<>();
+    private final Map<String, NavigableSet<String>> availableByRole = new ConcurrentHashMap<>();
+    // events are applied under the read lock (they touch distinct keys), a reload takes the write lock
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // one reload at a time, the scheduled one may overlap the one at startup
+    private final Lock reloadLock = new ReentrantLock();
+    // events seen since the running reload started reading, null when no reload runs
+    private volatile Queue<WorkerStatusChangedEvent> eventsDuringReload;
+    private volatile boolean loaded;
+
+    public AvailableWorkerIndex(WorkerRepository workerRepository) {
+        this.workerRepository = workerRepository;
+    }
+
+    /**
+     * @param roleId role of the workers
+     * @return ids of the AVAILABLE workers with the role, in ascending order
+     */
+    public List<String> getAvailableWorkerIds(String roleId) {
+        if (!loaded) {
+            return workerRepository.findAvailableWorkerIds(roleId);
+        }
+        NavigableSet<String> available = availableByRole.get(roleId);
+        return available == null ? List.of() : List.copyOf(available);
+    }
+
+    /**
+     * @return whether the worker is currently AVAILABLE according to the index
+     */
+    public boolean isAvailable(String workerId) {
+        String roleId = workerRoles.get(workerId);
+        if (roleId == null) {
+            return false;
+        }
+        Set<String> available = availableByRole.get(roleId);
+        return available != null && available.contains(workerId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${wastewise.worker-index.refresh-interval:PT5M}",
+            fixedDelayString = "${wastewise.worker-index.refresh-interval:PT5M}")
+    public void reload() {
+        reloadLock.lock();
+        try {
+            Queue<WorkerStatusChangedEvent> pending = new ConcurrentLinkedQueue<>();
+            // set before reading, an event committed after the read started is either in the snapshot or buffered
+            eventsDuringReload = pending;
+            List<WorkerRoleStatusDTO> workers;
+            try {
+                workers = workerRepository.findAllRoleStatuses();
+            } catch (RuntimeException ex) {
+                eventsDuringReload = null;
+                throw ex;
+            }
+            lock.writeLock().lock();
+            try {
+                workerRoles.clear();
+                availableByRole.clear();
+                for (WorkerRoleStatusDTO worker : workers) {
+                    apply(worker.getWorkerId(), worker.getRoleId(), worker.getWorkerStatus());
+                }
+                // no event is applied while the write lock is held, so the buffer is complete here
+                for (WorkerStatusChangedEvent event : pending) {
+                    apply(event);
+                }
+                eventsDuringReload = null;
+                loaded = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("Loaded {} workers into the available worker index, replayed {} status changes",
+                    workers.size(), pending.size());
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkerStatusChanged(WorkerStatusChangedEvent event) {
+        lock.readLock().lock();
+        try {
+            Queue<WorkerStatusChangedEvent> pending = eventsDuringReload;
+            if (pending != null) {
+                pending.add(event);
+            }
+            apply(event);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(WorkerStatusChangedEvent event) {
+        String roleId = event.roleId() != null ? event.roleId() : workerRoles.get(event.workerId());
+        apply(event.workerId(), roleId, event.newStatus());
+    }
+
+    private void apply(String workerId, String roleId, WorkerStatus status) {
+        String previousRoleId = roleId == null ? workerRoles.remove(workerId) : workerRoles.put(workerId, roleId);
+        if (previousRoleId != null) {
+            Set<String> previous = availableByRole.get(previousRoleId);
+            if (previous != null) {
+                previous.remove(workerId);
+            }
+        }
+        if (roleId != null && status == WorkerStatus.AVAILABLE) {
+            availableByRole.computeIfAbsent(roleId, r -> new ConcurrentSkipListSet<>()).add(workerId);
+        }
+    }
+}
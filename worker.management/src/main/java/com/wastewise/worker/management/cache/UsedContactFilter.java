@@ -0,0 +1,84 @@
+package com.wastewise.worker.management.cache;
+
+import com.wastewise.worker.management.dto.WorkerContactDTO;
+import com.wastewise.worker.management.repository.WorkerRepository;
+import com.wastewise.worker.management.util.BloomFilter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Bloom filter of every contact number and email in use, filled from the database once the application is ready.
+ * When it answers that a contact is definitely unused, the uniqueness query is skipped; the unique constraints on
+ * the worker table still catch the rare race. Contacts are added as soon as they are written and never removed,
+ * so a rolled back or replaced contact only costs a false positive, i.e. a database check.
+ * Until the first load finishes every contact counts as possibly used.
+ */
+@Slf4j
+@Component
+public class UsedContactFilter {
+
+    private static final String NUMBER_PREFIX = "n:";
+    private static final String EMAIL_PREFIX = "e:";
+
+    private final WorkerRepository workerRepository;
+    private final BloomFilter filter;
+    private final Counter skippedChecks;
+    private final Counter databaseChecks;
+    private volatile boolean loaded;
+
+    public UsedContactFilter(WorkerRepository workerRepository, MeterRegistry meterRegistry,
+                             @Value("${wastewise.contact-filter.expected-contacts:2000000}") long expectedContacts,
+                             @Value("${wastewise.contact-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.workerRepository = workerRepository;
+        this.filter = new BloomFilter(expectedContacts, falsePositiveRate);
+        this.skippedChecks = Counter.builder("wastewise.contact.filter.checks").tag("result", "unused")
+                .description("Contact uniqueness checks answered by the bloom filter").register(meterRegistry);
+        this.databaseChecks = Counter.builder("wastewise.contact.filter.checks").tag("result", "maybe-used")
+                .description("Contact uniqueness checks that had to query the database").register(meterRegistry);
+    }
+
+    /**
+     * @param contactNumber number to check
+     * @param contactEmail email to check, may be null
+     * @return false when neither contact is used by any worker, true when the database has to be asked
+     */
+    public boolean mightBeUsed(String contactNumber, String contactEmail) {
+        boolean maybe = !loaded
+                || filter.mightContain(NUMBER_PREFIX + contactNumber)
+                || (contactEmail != null && filter.mightContain(EMAIL_PREFIX + contactEmail));
+        (maybe ? databaseChecks : skippedChecks).increment();
+        return maybe;
+    }
+
+    public void add(String contactNumber, String contactEmail) {
+        if (contactNumber != null) {
+            filter.add(NUMBER_PREFIX + contactNumber);
+        }
+        if (contactEmail != null) {
+            filter.add(EMAIL_PREFIX + contactEmail);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        long workers = 0;
+        try (Stream<WorkerContactDTO> contacts = workerRepository.streamAllContacts()) {
+            for (Iterator<WorkerContactDTO> it = contacts.iterator(); it.hasNext(); workers++) {
+                WorkerContactDTO contact = it.next();
+                add(contact.getContactNumber(), contact.getContactEmail());
+            }
+        }
+        loaded = true;
+        log.info("Loaded the contacts of {} workers into the used contact filter", workers);
+    }
+}
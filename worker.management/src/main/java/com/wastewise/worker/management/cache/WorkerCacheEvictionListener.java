@@ -0,0 +1,31 @@
+package com.wastewise.worker.management.cache;
+
+import com.wastewise.worker.management.config.CacheConfig;
+import com.wastewise.worker.management.event.WorkerStatusChangedEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * Drops the cached worker after every committed status change, and the cached id list when a worker is created
+ */
+@Component
+public class WorkerCacheEvictionListener {
+
+    private final Cache workers;
+    private final Cache workerIds;
+
+    public WorkerCacheEvictionListener(CacheManager cacheManager) {
+        this.workers = cacheManager.getCache(CacheConfig.WORKERS);
+        this.workerIds = cacheManager.getCache(CacheConfig.WORKER_IDS);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onWorkerStatusChanged(WorkerStatusChangedEvent event) {
+        workers.evict(event.workerId());
+        if (event.previousStatus() == null) {
+            workerIds.clear();
+        }
+    }
+}
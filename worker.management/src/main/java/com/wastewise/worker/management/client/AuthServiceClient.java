@@ -0,0 +1,14 @@
+package com.wastewise.worker.management.client;
+
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+
+@FeignClient(name = DownstreamCalls.AUTH_SERVICE, url = "${wastewise.auth-service.url}")
+public interface AuthServiceClient {
+
+    /**
+     * @return JWK set JSON with the public keys auth-service signs access tokens with
+     */
+    @GetMapping("/.well-known/jwks.json")
+    String getJwkSet();
+}
@@ -0,0 +1,58 @@
+package com.wastewise.worker.management.client;
+
+import com.wastewise.worker.management.exception.DownstreamClientErrorException;
+import com.wastewise.worker.management.exception.DownstreamServiceException;
+import feign.FeignException;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * Runs Feign calls through the circuit breaker and the bulkhead of their downstream service, both configured under
+ * resilience4j.circuitbreaker.instances.* / resilience4j.bulkhead.instances.* with the service name.
+ * The bulkhead caps the concurrent calls to one service, so a slow service cannot take every request thread;
+ * the circuit breaker fails fast while a service keeps failing or answering slowly. The bulkhead is the outer of
+ * the two, a call it turns away never reaches the breaker: local load alone does not open the circuit.
+ * Exceptions the circuit breaker is configured to ignore (e.g. ResourceNotFoundException for a 404) pass through,
+ * other 4xx answers become a DownstreamClientErrorException with the same status, every other failure becomes a
+ * DownstreamServiceException.
+ */
+@Component
+public class DownstreamCalls {
+
+    public static final String AUTH_SERVICE = "auth-service";
+    public static final String ZONE_SERVICE = "zone-service";
+    public static final String ROUTE_SERVICE = "route-service";
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+
+    public DownstreamCalls(CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry) {
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+    }
+
+    public <T> T call(String service, Supplier<T> call) {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(service);
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(service);
+        try {
+            return bulkhead.executeSupplier(CircuitBreaker.decorateSupplier(circuitBreaker, call));
+        } catch (CallNotPermittedException e) {
+            throw new DownstreamServiceException(service + " is unavailable, circuit breaker is open", e);
+        } catch (BulkheadFullException e) {
+            throw new DownstreamServiceException(service + " is busy, too many concurrent calls", e);
+        } catch (FeignException.FeignClientException e) {
+            throw new DownstreamClientErrorException(service + " rejected the request with status " + e.status(), e.status(), e);
+        } catch (FeignException e) {
+            throw new DownstreamServiceException(e.status() < 0
+                    ? service + " could not be reached: " + e.getMessage()
+                    : service + " call failed with status " + e.status(), e);
+        }
+    }
+}
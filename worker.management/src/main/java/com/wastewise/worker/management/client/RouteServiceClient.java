@@ -0,0 +1,13 @@
+package com.wastewise.worker.management.client;
+
+import com.wastewise.worker.management.dto.RouteDTO;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+@FeignClient(name = DownstreamCalls.ROUTE_SERVICE, url = "${wastewise.route-service.url}")
+public interface RouteServiceClient {
+
+    @GetMapping("/wastewise/admin/routes/{routeId}")
+    RouteDTO getRoute(@PathVariable("routeId") String routeId);
+}
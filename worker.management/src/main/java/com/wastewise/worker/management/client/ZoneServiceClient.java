@@ -0,0 +1,13 @@
+package com.wastewise.worker.management.client;
+
+import com.wastewise.worker.management.dto.ZoneDTO;
+import org.springframework.cloud.openfeign.FeignClient;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+
+@FeignClient(name = DownstreamCalls.ZONE_SERVICE, url = "${wastewise.zone-service.url}")
+public interface ZoneServiceClient {
+
+    @GetMapping("/wastewise/admin/zones/{zoneId}")
+    ZoneDTO getZone(@PathVariable("zoneId") String zoneId);
+}
@@ -0,0 +1,42 @@
+package com.wastewise.worker.management.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+
+/**
+ * Local, bounded Caffeine caches for the hot worker lookups and the zone / route lookups of other services. Every cache records statistics, which are
+ * published as the cache.gets / cache.puts / cache.evictions metrics on /actuator/metrics.
+ */
+@EnableCaching
+@Configuration
+public class CacheConfig {
+
+    public static final String WORKERS = "workers";
+    public static final String WORKER_IDS = "workerIds";
+    public static final String ZONES = "zones";
+    public static final String ROUTES = "routes";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${wastewise.cache.workers.spec}") String workersSpec,
+                                     @Value("${wastewise.cache.worker-ids.spec}") String workerIdsSpec,
+                                     @Value("${wastewise.cache.zones.spec}") String zonesSpec,
+                                     @Value("${wastewise.cache.routes.spec}") String routesSpec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // only the caches registered here exist, none are created on the fly
+        cacheManager.setCacheNames(List.of());
+        cacheManager.registerCustomCache(WORKERS, Caffeine.from(workersSpec).recordStats().build());
+        cacheManager.registerCustomCache(WORKER_IDS, Caffeine.from(workerIdsSpec).recordStats().build());
+        cacheManager.registerCustomCache(ZONES, Caffeine.from(zonesSpec).recordStats().build());
+        cacheManager.registerCustomCache(ROUTES, Caffeine.from(routesSpec).recordStats().build());
+        // puts and evictions made inside a transaction only happen once it commits
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
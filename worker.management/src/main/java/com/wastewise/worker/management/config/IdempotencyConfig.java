@@ -0,0 +1,32 @@
+package com.wastewise.worker.management.config;
+
+import com.wastewise.worker.management.idempotency.IdempotencyFilter;
+import com.wastewise.worker.management.idempotency.IdempotencyStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * Idempotency-Key handling of the mutating endpoints, switched off with wastewise.idempotency.enabled=false.
+ * The stored responses are published as the cache.* metrics of the idempotency cache.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "wastewise.idempotency", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyConfig {
+
+    @Bean
+    public IdempotencyStore idempotencyStore(@Value("${wastewise.idempotency.max-size:64MB}") DataSize maxSize,
+                                             @Value("${wastewise.idempotency.ttl:PT1H}") Duration ttl) {
+        return new IdempotencyStore(maxSize.toBytes(), ttl);
+    }
+
+    @Bean
+    public IdempotencyFilter idempotencyFilter(IdempotencyStore idempotencyStore,
+                                               @Value("${wastewise.idempotency.wait-timeout:PT10S}") Duration waitTimeout) {
+        return new IdempotencyFilter(idempotencyStore, waitTimeout);
+    }
+}
@@ -0,0 +1,35 @@
+package com.wastewise.worker.management.config;
+
+import com.wastewise.worker.management.security.JwtAuthenticationFilter;
+import com.wastewise.worker.management.security.JwtKeyStore;
+import com.wastewise.worker.management.security.JwtVerifier;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Local verification of auth-service access tokens, switched off with wastewise.security.jwt.enabled=false
+ * (every change is then audited as the system user).
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "wastewise.security.jwt", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SecurityConfig {
+
+    @Bean
+    public JwtVerifier jwtVerifier(JwtKeyStore jwtKeyStore,
+                                   @Value("${wastewise.security.jwt.issuer}") String issuer,
+                                   @Value("${wastewise.security.jwt.clock-skew:PT60S}") Duration clockSkew,
+                                   @Value("${wastewise.security.jwt.verified-cache-size:10000}") long verifiedCacheSize) {
+        return new JwtVerifier(jwtKeyStore::verifierFor, issuer, clockSkew, verifiedCacheSize, Clock.systemUTC());
+    }
+
+    @Bean
+    public JwtAuthenticationFilter jwtAuthenticationFilter(JwtVerifier jwtVerifier, MeterRegistry meterRegistry) {
+        return new JwtAuthenticationFilter(jwtVerifier, meterRegistry);
+    }
+}
@@ -1,15 +1,30 @@
 package com.wastewise.worker.management.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wastewise.worker.management.dispatch.DispatchBoardStream;
+import com.wastewise.worker.management.dto.AllocationReportDTO;
+import com.wastewise.worker.management.dto.AllocationRequestDTO;
+import com.wastewise.worker.management.dto.AssignmentHistoryDTO;
 import com.wastewise.worker.management.dto.UpdateWorkerAssignDTO;
+import com.wastewise.worker.management.dto.WorkerAssignmentBatchReportDTO;
 import com.wastewise.worker.management.dto.WorkerAssignmentDTO;
 import com.wastewise.worker.management.dto.WorkerReassignRequestDTO;
+import com.wastewise.worker.management.enums.Shift;
+import com.wastewise.worker.management.service.serviceimpl.AllocationServiceImpl;
+import com.wastewise.worker.management.service.serviceimpl.AssignmentHistoryServiceImpl;
 import com.wastewise.worker.management.service.serviceimpl.WorkerAssignmentServiceImpl;
+import com.wastewise.worker.management.util.NdjsonStreamWriter;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 
 @Slf4j
@@ -18,9 +33,19 @@ import java.util.List;
 public class WorkerAssignmentController {
 
     private final WorkerAssignmentServiceImpl workerAssignmentServiceImpl;
+    private final ObjectMapper objectMapper;
+    private final DispatchBoardStream dispatchBoardStream;
+    private final AllocationServiceImpl allocationServiceImpl;
+    private final AssignmentHistoryServiceImpl assignmentHistoryServiceImpl;
 
-    public WorkerAssignmentController(WorkerAssignmentServiceImpl workerAssignmentServiceImpl) {
+    public WorkerAssignmentController(WorkerAssignmentServiceImpl workerAssignmentServiceImpl, ObjectMapper objectMapper,
+                                      DispatchBoardStream dispatchBoardStream, AllocationServiceImpl allocationServiceImpl,
+                                      AssignmentHistoryServiceImpl assignmentHistoryServiceImpl) {
         this.workerAssignmentServiceImpl = workerAssignmentServiceImpl;
+        this.objectMapper = objectMapper;
+        this.dispatchBoardStream = dispatchBoardStream;
+        this.allocationServiceImpl = allocationServiceImpl;
+        this.assignmentHistoryServiceImpl = assignmentHistoryServiceImpl;
     }
 
     /**
@@ -33,6 +58,126 @@ public class WorkerAssignmentController {
         return new ResponseEntity<>(workerAssignmentServiceImpl.findAllWorkerAssignments(), HttpStatus.FOUND);
     }
 
+    /**
+     * Live dispatch board as Server-Sent Events, replaces polling the full list
+     * @return a 'snapshot' event with the list of workerAssignmentDTO, then 'add', 'replace' and 'delete' events
+     * (type, assignmentId, workerId, previousWorkerId, zoneId, routeId, shift) for every committed change
+     */
+    @GetMapping(value = "/board", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamDispatchBoard(){
+        log.info("Subscribing to the dispatch board");
+        return ResponseEntity.ok(dispatchBoardStream.subscribe());
+    }
+
+    /**
+     * Finding the workers assigned in a zone for a shift
+     * @param zoneId id of the zone
+     * @param shift DAY or NIGHT
+     * @return list of workerAssignmentDTO(assignmentId, workerId, routeId, zoneId, shift)
+     */
+    @GetMapping("/zones/{zoneId}")
+    public ResponseEntity<List<WorkerAssignmentDTO>> findWorkersByZoneAndShift(@PathVariable String zoneId,
+                                                                              @RequestParam Shift shift){
+        log.info("fetching the workers assigned in zone {} for shift {}", zoneId, shift);
+        return ResponseEntity.ok(workerAssignmentServiceImpl.findWorkersByZoneAndShift(zoneId, shift));
+    }
+
+    /**
+     * Finding the assignments on a route
+     * @param routeId id of the route
+     * @return list of workerAssignmentDTO(assignmentId, workerId, routeId, zoneId, shift)
+     */
+    @GetMapping("/routes/{routeId}")
+    public ResponseEntity<List<WorkerAssignmentDTO>> findAssignmentsByRoute(@PathVariable String routeId){
+        log.info("fetching the assignments on route {}", routeId);
+        return ResponseEntity.ok(workerAssignmentServiceImpl.findAssignmentsByRoute(routeId));
+    }
+
+    /**
+     * Finding the assignments and unassignments of a worker in a date range, including finished assignments
+     * @param workerId id of the worker
+     * @param from first day, e.g. 2026-10-01
+     * @param to day after the last one, e.g. 2026-11-01
+     * @param afterId historyId of the last row of the previous page
+     * @param limit page size, at most 10000
+     * @return list of assignmentHistoryDTO(historyId, recordedAt, action, assignmentId, workerId, zoneId, routeId, shift, changedBy)
+     */
+    @GetMapping("/history/workers/{workerId}")
+    public ResponseEntity<List<AssignmentHistoryDTO>> findWorkerHistory(
+            @PathVariable String workerId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "0") long afterId,
+            @RequestParam(defaultValue = "1000") int limit){
+        log.info("fetching the assignment history of worker {} from {} to {}", workerId, from, to);
+        return ResponseEntity.ok(assignmentHistoryServiceImpl.findWorkerHistory(workerId, from, to, afterId, limit));
+    }
+
+    /**
+     * Finding the assignments and unassignments in a zone in a date range, including finished assignments
+     * @param zoneId id of the zone
+     * @param from first day, e.g. 2026-10-01
+     * @param to day after the last one, e.g. 2026-11-01
+     * @param afterId historyId of the last row of the previous page
+     * @param limit page size, at most 10000
+     * @return list of assignmentHistoryDTO(historyId, recordedAt, action, assignmentId, workerId, zoneId, routeId, shift, changedBy)
+     */
+    @GetMapping("/history/zones/{zoneId}")
+    public ResponseEntity<List<AssignmentHistoryDTO>> findZoneHistory(
+            @PathVariable String zoneId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "0") long afterId,
+            @RequestParam(defaultValue = "1000") int limit){
+        log.info("fetching the assignment history of zone {} from {} to {}", zoneId, from, to);
+        return ResponseEntity.ok(assignmentHistoryServiceImpl.findZoneHistory(zoneId, from, to, afterId, limit));
+    }
+
+    /**
+     * Exporting the worker-assignments as newline delimited JSON, optionally filtered
+     * @param zoneId only assignments of this zone
+     * @param routeId only assignments of this route
+     * @param shift only assignments of this shift (DAY or NIGHT)
+     * @return one workerAssignmentDTO per line
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportWorkerAssignments(
+            @RequestParam(required = false) String zoneId,
+            @RequestParam(required = false) String routeId,
+            @RequestParam(required = false) Shift shift){
+        log.info("exporting the workerAssignments");
+        StreamingResponseBody body = outputStream -> {
+            try (NdjsonStreamWriter<WorkerAssignmentDTO> writer = new NdjsonStreamWriter<>(objectMapper, outputStream)) {
+                workerAssignmentServiceImpl.exportWorkerAssignments(zoneId, routeId, shift, writer);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    /**
+     * Assigns many workers to assignments in one request, e.g. at the start of a shift
+     * @param dtos list of workerAssignmentDTO(assignmentId, workerId, routeId, zoneId, shift)
+     * @return report stating for every tuple whether the worker was assigned or why not
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<WorkerAssignmentBatchReportDTO> assignWorkersInBatch(@RequestBody List<WorkerAssignmentDTO> dtos) {
+        log.info("assigning {} workers in batch", dtos.size());
+        return ResponseEntity.ok(workerAssignmentServiceImpl.assignWorkersInBatch(dtos));
+    }
+
+    /**
+     * Staffs the given assignments automatically, each up to two workers, least loaded available workers first
+     * @param dto roleId of the workers ('003' by default) and the assignments (assignmentId, zoneId, routeId, shift)
+     * @return report with the created workerAssignmentDTOs and the positions that stayed open
+     */
+    @PostMapping("/allocate")
+    public ResponseEntity<AllocationReportDTO> allocateWorkers(@Valid @RequestBody AllocationRequestDTO dto) {
+        log.info("allocating workers to {} assignments", dto.getAssignments().size());
+        return ResponseEntity.ok(allocationServiceImpl.allocate(dto));
+    }
+
     /**
      * Assigns worker to assignment
      * @param assignmentId assignmentId of the assignment
@@ -43,6 +188,7 @@ public class WorkerAssignmentController {
             @PathVariable String assignmentId,
     @Valid @RequestBody WorkerAssignmentDTO dto) {
         log.info("assigning worker");
+        workerAssignmentServiceImpl.validateRoute(dto.getZoneId(), dto.getRouteId());
         String result = workerAssignmentServiceImpl.assignWorkerToAssignment(assignmentId, dto.getWorkerId(), dto);
         return ResponseEntity.ok(result);
     }
@@ -1,17 +1,30 @@
 package com.wastewise.worker.management.controller;
 
+import com.wastewise.worker.management.dto.WorkerBulkReportDTO;
 import com.wastewise.worker.management.dto.WorkerCreateDTO;
 import com.wastewise.worker.management.dto.WorkerDTO;
+import com.wastewise.worker.management.dto.WorkerPageDTO;
 import com.wastewise.worker.management.dto.WorkerUpdateDTO;
 import com.wastewise.worker.management.enums.WorkerStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.wastewise.worker.management.outbox.WorkerStatusEventStream;
 import com.wastewise.worker.management.service.serviceimpl.WorkerServiceImpl;
+import com.wastewise.worker.management.util.NdjsonStreamWriter;
+import com.wastewise.worker.management.util.WorkerCsvReader;
 import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.RestController;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 
 @Slf4j
@@ -20,9 +33,14 @@ import java.util.List;
 public class WorkerController {
 
     private final WorkerServiceImpl workerServiceImpl;
+    private final ObjectMapper objectMapper;
+    private final WorkerStatusEventStream workerStatusEventStream;
 
-    public WorkerController(WorkerServiceImpl workerServiceImpl) {
+    public WorkerController(WorkerServiceImpl workerServiceImpl, ObjectMapper objectMapper,
+                            WorkerStatusEventStream workerStatusEventStream) {
         this.workerServiceImpl = workerServiceImpl;
+        this.objectMapper = objectMapper;
+        this.workerStatusEventStream = workerStatusEventStream;
     }
 
     /**
@@ -37,13 +55,59 @@ public class WorkerController {
     }
 
     /**
-     * finding all the workers
-     * @return a list of workerDTO (workerId, name, contactNumber, contactEmail, roleId, Status
+     * Creating many workers at once
+     * @param dtos list of worker dto (name, contactNumber, contactEmail, roleId, Status)
+     * @return report with the created workerId or the rejection reason of every worker
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<WorkerBulkReportDTO> createWorkers(@RequestBody List<WorkerCreateDTO> dtos) {
+        log.info("Creating {} worker profiles in bulk", dtos.size());
+        return ResponseEntity.ok(workerServiceImpl.createWorkers(dtos));
+    }
+
+    /**
+     * Creating many workers at once from an uploaded CSV file
+     * @param file CSV file with the header name,contactNumber,contactEmail,roleId,workerStatus
+     * @return report with the created workerId or the rejection reason of every data row
+     */
+    @PostMapping(value = "/bulk", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<WorkerBulkReportDTO> createWorkersFromCsv(@RequestParam("file") MultipartFile file) throws IOException {
+        log.info("Creating worker profiles in bulk from file {}", file.getOriginalFilename());
+        List<WorkerCreateDTO> dtos;
+        try (InputStream inputStream = file.getInputStream()) {
+            dtos = WorkerCsvReader.read(inputStream);
+        }
+        return ResponseEntity.ok(workerServiceImpl.createWorkers(dtos));
+    }
+
+    /**
+     * finding the workers one page at a time
+     * @param after workerId of the last worker of the previous page (nextCursor), omitted for the first page
+     * @param limit maximum number of workers to return
+     * @return a page of workerDTO (workerId, name, contactNumber, contactEmail, Status) with the cursor of the next page
      */
     @GetMapping
-    public ResponseEntity<List<WorkerDTO>> findAllWorkers(){
-        log.info("Fetching all the workers");
-        return ResponseEntity.ok(workerServiceImpl.getAllWorkers());
+    public ResponseEntity<WorkerPageDTO> findAllWorkers(@RequestParam(required = false) String after,
+                                                        @RequestParam(defaultValue = "100") int limit){
+        log.info("Fetching a page of workers");
+        return ResponseEntity.ok(workerServiceImpl.getAllWorkers(after, limit));
+    }
+
+    /**
+     * streaming all the workers as newline delimited JSON, selected with 'Accept: application/x-ndjson'
+     * @return one workerDTO per line
+     */
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> streamAllWorkers(){
+        log.info("Streaming all the workers");
+        StreamingResponseBody body = outputStream -> {
+            try (NdjsonStreamWriter<WorkerDTO> writer = new NdjsonStreamWriter<>(objectMapper, outputStream)) {
+                workerServiceImpl.streamAllWorkers(writer);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     /**
@@ -69,13 +133,26 @@ public class WorkerController {
     }
 
     /**
-     * finding all the workers with status Available
+     * finding all the workers of a role with status Available
+     * @param roleId role of the workers, sanitary workers ('003') by default
      * @return list of workerIds with status is available
      */
     @GetMapping("/ids/available")
-    public ResponseEntity<List<String>> getAvailableWorkerIds() {
-        log.info("fetching all the available workers");
-        return ResponseEntity.ok(workerServiceImpl.getAllAvailableWorkerIds());
+    public ResponseEntity<List<String>> getAvailableWorkerIds(@RequestParam(defaultValue = "003") String roleId) {
+        log.info("fetching all the available workers with role {}", roleId);
+        return ResponseEntity.ok(workerServiceImpl.getAllAvailableWorkerIds(roleId));
+    }
+
+    /**
+     * subscribing to worker status changes as Server-Sent Events (event name 'worker-status')
+     * @param lastEventId eventId of the last change received, sent by EventSource when it reconnects;
+     *                    the published changes after it are replayed first
+     * @return stream of workerStatusChangeDTO (eventId, workerId, roleId, previousStatus, newStatus, changedBy, occurredAt)
+     */
+    @GetMapping(value = "/status-events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> streamStatusChanges(@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        log.info("Subscribing to worker status changes after event {}", lastEventId);
+        return ResponseEntity.ok(workerStatusEventStream.subscribe(lastEventId));
     }
 
     /**
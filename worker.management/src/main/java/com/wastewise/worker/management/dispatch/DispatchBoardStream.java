@@ -0,0 +1,63 @@
+package com.wastewise.worker.management.dispatch;
+
+import com.wastewise.worker.management.event.AssignmentChangedEvent;
+import com.wastewise.worker.management.service.WorkerAssignmentService;
+import com.wastewise.worker.management.util.SseBroadcaster;
+import com.wastewise.worker.management.util.SseBroadcaster.SseEvent;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Live dispatch board: every subscriber first gets a 'snapshot' event with all the worker-assignments, then an
+ * 'add', 'replace' or 'delete' event for each assignment row changed by a committed transaction. Boards apply
+ * the changes by (assignmentId, workerId); applying one that the snapshot already contains is harmless.
+ * The snapshot is read from the primary, a replica could still miss a change broadcast before the board subscribed.
+ * A board that falls behind is disconnected and gets a new snapshot when it reconnects.
+ */
+@Component
+public class DispatchBoardStream {
+
+    static final String SNAPSHOT = "snapshot";
+
+    private final WorkerAssignmentService workerAssignmentService;
+    private final SseBroadcaster broadcaster;
+    // ids let boards spot a gap, they are not replayed, a reconnect always starts with a snapshot
+    private final AtomicLong sequence = new AtomicLong();
+
+    public DispatchBoardStream(WorkerAssignmentService workerAssignmentService,
+                               @Qualifier("applicationTaskExecutor") Executor executor,
+                               @Value("${wastewise.dispatch-board.max-subscribers:500}") int maxSubscribers,
+                               @Value("${wastewise.dispatch-board.queue-capacity:256}") int queueCapacity,
+                               @Value("${wastewise.dispatch-board.timeout:PT30M}") Duration timeout) {
+        this.workerAssignmentService = workerAssignmentService;
+        this.broadcaster = new SseBroadcaster("dispatch board", maxSubscribers, queueCapacity, timeout, executor);
+    }
+
+    public SseEmitter subscribe() {
+        return broadcaster.subscribe(() -> List.of(new SseEvent(String.valueOf(sequence.get()), SNAPSHOT,
+                workerAssignmentService.snapshotWorkerAssignments())));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssignmentChanged(AssignmentChangedEvent event) {
+        long id = sequence.incrementAndGet();
+        if (broadcaster.subscriberCount() > 0) {
+            broadcaster.broadcast(new SseEvent(String.valueOf(id), event.type().name().toLowerCase(Locale.ROOT), event));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${wastewise.dispatch-board.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        broadcaster.heartbeat();
+    }
+}
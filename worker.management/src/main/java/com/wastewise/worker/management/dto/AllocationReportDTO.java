@@ -0,0 +1,20 @@
+package com.wastewise.worker.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AllocationReportDTO {
+    // positions that were open before the allocation, up to two per assignment
+    private int openPositions;
+    private int assigned;
+    private List<WorkerAssignmentDTO> assignments;
+    // assignmentId -> positions still open because no suitable worker was left
+    private Map<String, Integer> unfilled;
+}
@@ -0,0 +1,24 @@
+package com.wastewise.worker.management.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AllocationRequestDTO {
+    // role of the workers to allocate, sanitary workers by default
+    @NotBlank(message = "roleId should not be blank")
+    private String roleId = "003";
+
+    @NotEmpty(message = "at least one assignment is needed")
+    @Size(max = 1000, message = "at most 1000 assignments can be allocated in one request")
+    private List<@Valid AssignmentSlotDTO> assignments;
+}
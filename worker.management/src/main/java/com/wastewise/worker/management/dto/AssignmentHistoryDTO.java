@@ -0,0 +1,27 @@
+package com.wastewise.worker.management.dto;
+
+import com.wastewise.worker.management.enums.AssignmentAction;
+import com.wastewise.worker.management.enums.Shift;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A worker being assigned to or unassigned from an assignment, historyId increases with every row
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssignmentHistoryDTO {
+    private Long historyId;
+    private LocalDateTime recordedAt;
+    private AssignmentAction action;
+    private String assignmentId;
+    private String workerId;
+    private String zoneId;
+    private String routeId;
+    private Shift shift;
+    private String changedBy;
+}
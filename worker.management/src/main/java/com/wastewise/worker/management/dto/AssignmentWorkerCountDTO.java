@@ -0,0 +1,13 @@
+package com.wastewise.worker.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssignmentWorkerCountDTO {
+    private String assignmentId;
+    private Long workerCount;
+}
@@ -0,0 +1,14 @@
+package com.wastewise.worker.management.dto;
+
+/**
+ * Validation patterns shared by the DTOs
+ */
+public final class IdPatterns {
+
+    // 'W' followed by at least three digits, ids past W999 simply grow wider (W1000, W1001...)
+    public static final String WORKER_ID = "^W\\d{3,9}$";
+    public static final String WORKER_ID_MESSAGE = "WorkerId should follow this pattern 'W001'";
+
+    private IdPatterns() {
+    }
+}
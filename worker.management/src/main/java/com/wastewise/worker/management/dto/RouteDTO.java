@@ -0,0 +1,14 @@
+package com.wastewise.worker.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class RouteDTO {
+    private String routeId;
+    private String zoneId;
+    private String routeName;
+}
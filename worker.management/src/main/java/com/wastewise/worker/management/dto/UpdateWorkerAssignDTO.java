@@ -7,10 +7,10 @@ import lombok.Data;
 @Data
 public class UpdateWorkerAssignDTO {
     @NotBlank(message = "oldWorkerId must not be blank")
-    @Pattern(regexp = "^W\\d{3}$", message = "WorkerId should follow this pattern 'W001'")
+    @Pattern(regexp = IdPatterns.WORKER_ID, message = IdPatterns.WORKER_ID_MESSAGE)
     private String oldWorkerId;
 
     @NotBlank(message = "newWorkerId must not be blank")
-    @Pattern(regexp = "^W\\d{3}$", message = "WorkerId should follow this pattern 'W001'")
+    @Pattern(regexp = IdPatterns.WORKER_ID, message = IdPatterns.WORKER_ID_MESSAGE)
     private String newWorkerId;
 }
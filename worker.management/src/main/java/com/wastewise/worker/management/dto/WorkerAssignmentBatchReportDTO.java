@@ -0,0 +1,17 @@
+package com.wastewise.worker.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkerAssignmentBatchReportDTO {
+    private int total;
+    private int assigned;
+    private int rejected;
+    private List<WorkerAssignmentBatchResultDTO> results;
+}
@@ -0,0 +1,17 @@
+package com.wastewise.worker.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkerAssignmentBatchResultDTO {
+    // 1-based position of the tuple in the request
+    private int row;
+    private String assignmentId;
+    private String workerId;
+    private boolean assigned;
+    private String message;
+}
@@ -1,18 +1,21 @@
 package com.wastewise.worker.management.dto;
 
 
+import com.wastewise.worker.management.enums.Shift;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
 public class WorkerAssignmentDTO {
     @NotBlank(message = "assignmentId should not be blank")
     @Pattern(regexp = "^A\\d{3}$", message = "The assignmentId should follow this pattern 'A001'")
     private String assignmentId;
 
     @NotBlank(message = "workerId should not be blank")
-    @Pattern(regexp = "^W\\d{3}$", message = "WorkerId should follow this pattern 'W001'")
+    @Pattern(regexp = IdPatterns.WORKER_ID, message = IdPatterns.WORKER_ID_MESSAGE)
     private String workerId;
 
     @NotBlank(message = "zoneId should not be blank")
@@ -26,4 +29,15 @@ public class WorkerAssignmentDTO {
     @NotBlank(message = "Shift cannot be blank")
     @Pattern(regexp = "DAY|NIGHT", message = "Shift details should be either 'DAY' or 'NIGHT'")
     private String shift;
-}
\ No newline at end of file
+
+    /**
+     * Used by the JPQL constructor projections in WorkerAssignmentRepository
+     */
+    public WorkerAssignmentDTO(String assignmentId, String workerId, String zoneId, String routeId, Shift shift) {
+        this.assignmentId = assignmentId;
+        this.workerId = workerId;
+        this.zoneId = zoneId;
+        this.routeId = routeId;
+        this.shift = shift == null ? null : shift.name();
+    }
+}
@@ -0,0 +1,16 @@
+package com.wastewise.worker.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkerBulkResultDTO {
+    // 1-based position of the worker in the request (data row number for CSV uploads)
+    private int row;
+    private String workerId;
+    private boolean created;
+    private String message;
+}
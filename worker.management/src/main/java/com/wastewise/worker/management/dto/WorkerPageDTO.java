@@ -0,0 +1,16 @@
+package com.wastewise.worker.management.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkerPageDTO {
+    private List<WorkerDTO> workers;
+    // workerId to pass as 'after' for the next page, null when this is the last page
+    private String nextCursor;
+}
@@ -8,18 +8,18 @@ import lombok.Data;
 public class WorkerReassignRequestDTO {
 
     @NotBlank(message = "oldWorkerId 1 must not be blank")
-    @Pattern(regexp = "^W\\d{3}$", message = "WorkerId should follow this pattern 'W001'")
+    @Pattern(regexp = IdPatterns.WORKER_ID, message = IdPatterns.WORKER_ID_MESSAGE)
     private String oldWorkerId1;
 
     @NotBlank(message = "oldWorkerId 2 must not be blank")
-    @Pattern(regexp = "^W\\d{3}$", message = "WorkerId should follow this pattern 'W001'")
+    @Pattern(regexp = IdPatterns.WORKER_ID, message = IdPatterns.WORKER_ID_MESSAGE)
     private String oldWorkerId2;
 
     @NotBlank(message = "newWorkerId 1 must not be blank")
-    @Pattern(regexp = "^W\\d{3}$", message = "WorkerId should follow this pattern 'W001'")
+    @Pattern(regexp = IdPatterns.WORKER_ID, message = IdPatterns.WORKER_ID_MESSAGE)
     private String newWorkerId1;
 
     @NotBlank(message = "newWorkerId 2 must not be blank")
-    @Pattern(regexp = "^W\\d{3}$", message = "WorkerId should follow this pattern 'W001'")
+    @Pattern(regexp = IdPatterns.WORKER_ID, message = IdPatterns.WORKER_ID_MESSAGE)
     private String newWorkerId2;
 }
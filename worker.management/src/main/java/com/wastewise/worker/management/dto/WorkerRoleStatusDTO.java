@@ -0,0 +1,15 @@
+package com.wastewise.worker.management.dto;
+
+import com.wastewise.worker.management.enums.WorkerStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkerRoleStatusDTO {
+    private String workerId;
+    private String roleId;
+    private WorkerStatus workerStatus;
+}
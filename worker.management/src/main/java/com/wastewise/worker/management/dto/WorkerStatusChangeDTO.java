@@ -0,0 +1,24 @@
+package com.wastewise.worker.management.dto;
+
+import com.wastewise.worker.management.enums.WorkerStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * A worker status change as published by the outbox relay, eventId is its position in publish order
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkerStatusChangeDTO {
+    private Long eventId;
+    private String workerId;
+    private String roleId;
+    private WorkerStatus previousStatus;
+    private WorkerStatus newStatus;
+    private String changedBy;
+    private LocalDateTime occurredAt;
+}
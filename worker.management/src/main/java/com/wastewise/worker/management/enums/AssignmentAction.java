@@ -0,0 +1,5 @@
+package com.wastewise.worker.management.enums;
+
+public enum AssignmentAction {
+    ASSIGNED,UNASSIGNED
+}
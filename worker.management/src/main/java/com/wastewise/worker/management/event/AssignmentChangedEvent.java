@@ -0,0 +1,34 @@
+package com.wastewise.worker.management.event;
+
+import com.wastewise.worker.management.enums.Shift;
+
+/**
+ * Published inside the transaction for every worker-assignment row that is added, moved to another worker or deleted
+ *
+ * @param type kind of change
+ * @param assignmentId id of the assignment
+ * @param workerId worker of the row, the new worker for REPLACE
+ * @param previousWorkerId worker the row belonged to before a REPLACE, null otherwise
+ * @param zoneId zone of the assignment, null for REPLACE (unchanged)
+ * @param routeId route of the assignment, null for REPLACE (unchanged)
+ * @param shift shift of the assignment, null for REPLACE (unchanged)
+ */
+public record AssignmentChangedEvent(Type type, String assignmentId, String workerId, String previousWorkerId,
+                                     String zoneId, String routeId, Shift shift) {
+
+    public enum Type {
+        ADD, REPLACE, DELETE
+    }
+
+    public static AssignmentChangedEvent added(String assignmentId, String workerId, String zoneId, String routeId, Shift shift) {
+        return new AssignmentChangedEvent(Type.ADD, assignmentId, workerId, null, zoneId, routeId, shift);
+    }
+
+    public static AssignmentChangedEvent replaced(String assignmentId, String previousWorkerId, String workerId) {
+        return new AssignmentChangedEvent(Type.REPLACE, assignmentId, workerId, previousWorkerId, null, null, null);
+    }
+
+    public static AssignmentChangedEvent deleted(String assignmentId, String workerId, String zoneId, String routeId, Shift shift) {
+        return new AssignmentChangedEvent(Type.DELETE, assignmentId, workerId, null, zoneId, routeId, shift);
+    }
+}
@@ -0,0 +1,14 @@
+package com.wastewise.worker.management.event;
+
+import com.wastewise.worker.management.enums.WorkerStatus;
+
+/**
+ * Published inside the transaction whenever a worker is created or its status (or role) changes
+ *
+ * @param workerId id of the worker
+ * @param roleId role of the worker, null when the publisher did not load it
+ * @param previousStatus status before the change, null for a new worker
+ * @param newStatus status after the change
+ */
+public record WorkerStatusChangedEvent(String workerId, String roleId, WorkerStatus previousStatus, WorkerStatus newStatus) {
+}
@@ -0,0 +1,19 @@
+package com.wastewise.worker.management.exception;
+
+/**
+ * A downstream service answered with a 4xx: the request was wrong, the service is healthy.
+ * Answered with the same status, not counted as a circuit breaker failure.
+ */
+public class DownstreamClientErrorException extends RuntimeException {
+
+    private final int status;
+
+    public DownstreamClientErrorException(String message, int status, Throwable cause) {
+        super(message, cause);
+        this.status = status;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+}
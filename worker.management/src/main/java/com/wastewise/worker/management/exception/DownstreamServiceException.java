@@ -0,0 +1,7 @@
+package com.wastewise.worker.management.exception;
+
+public class DownstreamServiceException extends RuntimeException {
+    public DownstreamServiceException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -1,11 +1,15 @@
 package com.wastewise.worker.management.exception;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
 import java.util.stream.Collectors;
 
@@ -48,6 +52,25 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body("Illegal State Error: " + ex.getMessage());
     }
 
+    @ExceptionHandler(ConcurrencyFailureException.class)
+    public ResponseEntity<String> handleConcurrencyFailure(ConcurrencyFailureException ex) {
+        log.error("Concurrent update could not be resolved by retrying");
+        String errorMessage = String.format("The worker was changed by another request, please try again (Status: %d)", HttpStatus.CONFLICT.value());
+        return new ResponseEntity<>(errorMessage, HttpStatus.CONFLICT);
+    }
+
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleIllegalArgument(IllegalArgumentException ex) {
+        log.error("Illegal argument exception thrown");
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Invalid request: " + ex.getMessage());
+    }
+
+    @ExceptionHandler({MethodArgumentTypeMismatchException.class, MissingServletRequestParameterException.class})
+    public ResponseEntity<String> handleInvalidRequestParameter(Exception ex) {
+        log.error("Invalid request parameter passed");
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Invalid request: " + ex.getMessage());
+    }
+
     @ExceptionHandler(ContactInformationUsedException.class)
     public ResponseEntity<String> handleContactInformationUsedException(ContactInformationUsedException ex){
         log.error("Used contact information passed");
@@ -55,6 +78,27 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorMessage, HttpStatus.CONFLICT);
     }
 
+    @ExceptionHandler(DownstreamServiceException.class)
+    public ResponseEntity<String> handleDownstreamServiceException(DownstreamServiceException ex) {
+        log.error("Call to another service failed: {}", ex.getMessage());
+        String errorMessage = String.format("Dependent service unavailable: %s (Status: %d)", ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE.value());
+        return new ResponseEntity<>(errorMessage, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
+    @ExceptionHandler(DownstreamClientErrorException.class)
+    public ResponseEntity<String> handleDownstreamClientErrorException(DownstreamClientErrorException ex) {
+        log.error("Call to another service was rejected: {}", ex.getMessage());
+        String errorMessage = String.format("Request rejected by dependent service: %s (Status: %d)", ex.getMessage(), ex.getStatus());
+        return new ResponseEntity<>(errorMessage, HttpStatusCode.valueOf(ex.getStatus()));
+    }
+
+    @ExceptionHandler(TooManySubscribersException.class)
+    public ResponseEntity<String> handleTooManySubscribersException(TooManySubscribersException ex) {
+        log.error("Event stream subscription rejected");
+        String errorMessage = String.format("Too many subscribers: %s (Status: %d)", ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE.value());
+        return new ResponseEntity<>(errorMessage, HttpStatus.SERVICE_UNAVAILABLE);
+    }
+
     @ExceptionHandler(MethodArgumentNotValidException.class)
     public ResponseEntity<String> handleValidationExceptions(MethodArgumentNotValidException ex) {
         log.error("Method argument not valid exception thrown");
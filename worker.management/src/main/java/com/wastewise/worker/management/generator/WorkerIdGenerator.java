@@ -0,0 +1,155 @@
+package com.wastewise.worker.management.generator;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out worker ids (W001, W002 ... W1000 ...) from an in-memory block. Only when the block is used up
+ * is a new one reserved in the id_sequence table, in its own transaction and under a row lock, so ids stay
+ * unique across concurrent requests and application instances and are never reused after a worker is deleted.
+ * Ids left in a block when the application stops are skipped.
+ * <p>
+ * Ids are taken inside the transactions creating the workers, which already hold a connection of the application
+ * pool. The reservation therefore runs on a dedicated single-connection pool: with every application connection
+ * held by a creation waiting for the next block, a reservation that needed one more would only end at the
+ * connection timeout.
+ */
+@Slf4j
+@Component
+public class WorkerIdGenerator {
+
+    static final String SEQUENCE_NAME = "worker_id";
+    private static final char PREFIX = 'W';
+    private static final int MIN_DIGITS = 3;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int blockSize;
+    private final HikariDataSource ownedDataSource;
+
+    // ReentrantLock rather than synchronized so virtual threads waiting here do not pin their carrier
+    private final ReentrantLock lock = new ReentrantLock();
+    private long next;
+    private long limit;
+
+    @Autowired
+    public WorkerIdGenerator(DataSourceProperties dataSourceProperties,
+                             @Value("${wastewise.worker-id.block-size:50}") int blockSize) {
+        this(sequenceDataSource(dataSourceProperties), blockSize);
+    }
+
+    WorkerIdGenerator(DataSource dataSource, int blockSize) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        this.blockSize = blockSize;
+        this.ownedDataSource = dataSource instanceof HikariDataSource hikari ? hikari : null;
+    }
+
+    private static HikariDataSource sequenceDataSource(DataSourceProperties dataSourceProperties) {
+        HikariDataSource dataSource = dataSourceProperties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("id-sequence");
+        dataSource.setMaximumPoolSize(1);
+        dataSource.setMinimumIdle(1);
+        return dataSource;
+    }
+
+    @PreDestroy
+    public void close() {
+        if (ownedDataSource != null) {
+            ownedDataSource.close();
+        }
+    }
+
+    /**
+     * @return the next unused worker id
+     */
+    public String nextId() {
+        return format(reserve(1));
+    }
+
+    /**
+     * Reserves count consecutive worker ids at once
+     * @param count number of ids needed
+     * @return list of unused worker ids in ascending order
+     */
+    public List<String> nextIds(int count) {
+        long start = reserve(count);
+        List<String> ids = new ArrayList<>(count);
+        for (long number = start; number < start + count; number++) {
+            ids.add(format(number));
+        }
+        return ids;
+    }
+
+    private long reserve(int count) {
+        lock.lock();
+        try {
+            if (limit - next >= count) {
+                long start = next;
+                next += count;
+                return start;
+            }
+            if (count > blockSize) {
+                // a dedicated range, the current block is kept for later single ids
+                return allocate(count);
+            }
+            long start = allocate(blockSize);
+            next = start + count;
+            limit = start + blockSize;
+            return start;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long allocate(int size) {
+        try {
+            return transactionTemplate.execute(status -> allocateInTransaction(size));
+        } catch (DataIntegrityViolationException e) {
+            // another instance created the sequence row at the same time, it exists now
+            log.info("Sequence {} was initialised concurrently, retrying the allocation", SEQUENCE_NAME);
+            return transactionTemplate.execute(status -> allocateInTransaction(size));
+        }
+    }
+
+    private long allocateInTransaction(int size) {
+        List<Long> current = jdbcTemplate.queryForList(
+                "SELECT next_value FROM id_sequence WHERE sequence_name = ? FOR UPDATE", Long.class, SEQUENCE_NAME);
+        long start;
+        if (current.isEmpty()) {
+            // continue after the ids handed out before the sequence table existed
+            Long highest = jdbcTemplate.queryForObject(
+                    "SELECT MAX(CAST(SUBSTRING(worker_id, 2) AS DECIMAL(19))) FROM worker", Long.class);
+            start = highest == null ? 1 : highest + 1;
+            jdbcTemplate.update("INSERT INTO id_sequence (sequence_name, next_value) VALUES (?, ?)", SEQUENCE_NAME, start + size);
+        } else {
+            start = current.get(0);
+            jdbcTemplate.update("UPDATE id_sequence SET next_value = ? WHERE sequence_name = ?", start + size, SEQUENCE_NAME);
+        }
+        log.info("Reserved worker ids {} to {}", format(start), format(start + size - 1));
+        return start;
+    }
+
+    static String format(long number) {
+        String digits = Long.toString(number);
+        StringBuilder id = new StringBuilder(1 + Math.max(MIN_DIGITS, digits.length())).append(PREFIX);
+        for (int i = digits.length(); i < MIN_DIGITS; i++) {
+            id.append('0');
+        }
+        return id.append(digits).toString();
+    }
+}
@@ -0,0 +1,165 @@
+package com.wastewise.worker.management.history;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.StringJoiner;
+
+/**
+ * Creates the append-only worker_assignment_history table and, on MySQL, keeps its monthly partitions. The table
+ * is partitioned by RANGE COLUMNS on recorded_at with one partition per month plus p_future, so a range query
+ * only reads the months it covers and a whole month can be archived or dropped without touching the others.
+ * Partitions for the next months-ahead months are added in advance, while p_future is still empty and splitting
+ * it is cheap. Other databases (H2 in tests) get the same table without partitions.
+ */
+@Slf4j
+@Component
+public class AssignmentHistoryTable {
+
+    static final String TABLE = "worker_assignment_history";
+
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final String MAINTENANCE_LOCK = TABLE + ".partition_maintenance";
+    // long enough for another instance's REORGANIZE of an empty p_future
+    private static final int MAINTENANCE_LOCK_TIMEOUT_SECONDS = 60;
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    // the partitioning column has to be part of every unique key, hence the primary key (history_id, recorded_at)
+    private static final String COLUMNS = "history_id BIGINT NOT NULL AUTO_INCREMENT, " +
+            "recorded_at DATETIME NOT NULL, " +
+            "action_type VARCHAR(10) NOT NULL, " +
+            "assignment_id VARCHAR(32) NOT NULL, " +
+            "worker_id VARCHAR(32) NOT NULL, " +
+            "zone_id VARCHAR(32), " +
+            "route_id VARCHAR(32), " +
+            "shift VARCHAR(5), " +
+            "changed_by VARCHAR(32), " +
+            "PRIMARY KEY (history_id, recorded_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private boolean partitioned;
+
+    public AssignmentHistoryTable(JdbcTemplate jdbcTemplate,
+                                  @Value("${wastewise.assignment-history.months-ahead:3}") int monthsAhead,
+                                  @Value("${wastewise.assignment-history.retention-months:0}") int retentionMonths) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+    }
+
+    @PostConstruct
+    public void create() {
+        String database = jdbcTemplate.execute((ConnectionCallback<String>) c -> c.getMetaData().getDatabaseProductName());
+        partitioned = "MySQL".equals(database);
+        if (!partitioned) {
+            jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABLE + " (" + COLUMNS + ")");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_history_worker_recorded ON " + TABLE + " (worker_id, recorded_at)");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_history_zone_recorded ON " + TABLE + " (zone_id, recorded_at)");
+            return;
+        }
+        StringJoiner partitions = new StringJoiner(", ");
+        YearMonth current = YearMonth.now();
+        for (int i = 0; i <= monthsAhead; i++) {
+            partitions.add(monthPartition(current.plusMonths(i)));
+        }
+        partitions.add("PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS " + TABLE + " (" + COLUMNS + ", " +
+                "KEY idx_history_worker_recorded (worker_id, recorded_at), " +
+                "KEY idx_history_zone_recorded (zone_id, recorded_at)) " +
+                "ROW_FORMAT=COMPRESSED " +
+                "PARTITION BY RANGE COLUMNS (recorded_at) (" + partitions + ")");
+        maintainPartitions();
+    }
+
+    /**
+     * Adds the partitions of the coming months and, when retention-months is set, drops the months past it.
+     * Instances starting together would issue the same REORGANIZE and all but one fail on the duplicate partition,
+     * so the work runs under a MySQL named lock and reads the partitions only once it holds it. A failure is logged
+     * and left to the next run, it never stops the application from starting.
+     */
+    @Scheduled(initialDelayString = "${wastewise.assignment-history.maintenance-interval:PT12H}",
+            fixedDelayString = "${wastewise.assignment-history.maintenance-interval:PT12H}")
+    public void maintainPartitions() {
+        if (!partitioned) {
+            return;
+        }
+        try {
+            // GET_LOCK belongs to the connection, the lock, the DDL and the release have to share one
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                JdbcTemplate session = new JdbcTemplate(new SingleConnectionDataSource(connection, true));
+                Integer locked = session.queryForObject("SELECT GET_LOCK(?, ?)", Integer.class,
+                        MAINTENANCE_LOCK, MAINTENANCE_LOCK_TIMEOUT_SECONDS);
+                if (locked == null || locked != 1) {
+                    log.info("Partition maintenance of {} is running on another instance, skipping", TABLE);
+                    return null;
+                }
+                try {
+                    maintainPartitions(session);
+                } finally {
+                    session.queryForObject("SELECT RELEASE_LOCK(?)", Integer.class, MAINTENANCE_LOCK);
+                }
+                return null;
+            });
+        } catch (DataAccessException ex) {
+            log.warn("Partition maintenance of {} failed, retrying with the next run: {}", TABLE, ex.getMessage());
+        }
+    }
+
+    private void maintainPartitions(JdbcTemplate session) {
+        List<String> existing = session.queryForList("SELECT partition_name FROM information_schema.partitions " +
+                "WHERE table_schema = DATABASE() AND table_name = ? AND partition_name IS NOT NULL " +
+                "ORDER BY partition_ordinal_position", String.class, TABLE);
+        List<YearMonth> months = existing.stream()
+                .filter(name -> !FUTURE_PARTITION.equals(name))
+                .map(name -> YearMonth.parse(name, PARTITION_NAME))
+                .toList();
+        if (months.isEmpty() || !existing.contains(FUTURE_PARTITION)) {
+            log.warn("{} is not partitioned by month, skipping partition maintenance", TABLE);
+            return;
+        }
+
+        YearMonth last = months.get(months.size() - 1);
+        YearMonth until = YearMonth.now().plusMonths(monthsAhead);
+        StringJoiner added = new StringJoiner(", ");
+        for (YearMonth month = last.plusMonths(1); !month.isAfter(until); month = month.plusMonths(1)) {
+            added.add(monthPartition(month));
+        }
+        if (added.length() > 0) {
+            session.execute("ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + FUTURE_PARTITION + " INTO (" +
+                    added + ", PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+            log.info("Added the {} partitions up to {}", TABLE, until);
+        }
+
+        if (retentionMonths > 0) {
+            YearMonth oldestKept = YearMonth.now().minusMonths(retentionMonths);
+            List<String> expired = new ArrayList<>();
+            for (YearMonth month : months) {
+                if (month.isBefore(oldestKept)) {
+                    expired.add(month.format(PARTITION_NAME));
+                }
+            }
+            // at least one month partition stays, so p_future never takes over the current months
+            if (!expired.isEmpty() && expired.size() < months.size()) {
+                session.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + String.join(", ", expired));
+                log.info("Dropped the {} partitions {}", TABLE, expired);
+            }
+        }
+    }
+
+    private static String monthPartition(YearMonth month) {
+        return "PARTITION " + month.format(PARTITION_NAME) + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "')";
+    }
+}
@@ -0,0 +1,63 @@
+package com.wastewise.worker.management.history;
+
+import com.wastewise.worker.management.enums.AssignmentAction;
+import com.wastewise.worker.management.event.AssignmentChangedEvent;
+import com.wastewise.worker.management.security.Auditor;
+import com.wastewise.worker.management.util.BeforeCommitBatchInsert;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Appends a row to worker_assignment_history for every worker added to or removed from an assignment, in the
+ * transaction that made the change: an assignment adds an ASSIGNED row, a deletion an UNASSIGNED row per worker
+ * and a reassignment one of each. The assignment rows themselves are deleted when the work is done, the history
+ * keeps who worked where and when for payroll and audit.
+ */
+@Component
+@DependsOn("assignmentHistoryTable")
+public class AssignmentHistoryWriter {
+
+    // reassignment events carry no zone, route or shift, they are taken from the moved assignment row by primary key
+    private static final String INSERT = "INSERT INTO " + AssignmentHistoryTable.TABLE +
+            " (recorded_at, action_type, assignment_id, worker_id, zone_id, route_id, shift, changed_by) VALUES (?, ?, ?, ?, " +
+            "COALESCE(?, (SELECT wa.zone_id FROM worker_assignment wa WHERE wa.assignment_id = ? AND wa.worker_id = ?)), " +
+            "COALESCE(?, (SELECT wa.route_id FROM worker_assignment wa WHERE wa.assignment_id = ? AND wa.worker_id = ?)), " +
+            "COALESCE(?, (SELECT wa.shift FROM worker_assignment wa WHERE wa.assignment_id = ? AND wa.worker_id = ?)), ?)";
+
+    private final BeforeCommitBatchInsert historyInsert;
+    private final Auditor auditor;
+
+    public AssignmentHistoryWriter(JdbcTemplate jdbcTemplate, Auditor auditor) {
+        this.historyInsert = new BeforeCommitBatchInsert(jdbcTemplate, INSERT);
+        this.auditor = auditor;
+    }
+
+    @EventListener
+    public void onAssignmentChanged(AssignmentChangedEvent event) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        switch (event.type()) {
+            case ADD -> historyInsert.add(row(now, AssignmentAction.ASSIGNED, event, event.workerId()));
+            case DELETE -> historyInsert.add(row(now, AssignmentAction.UNASSIGNED, event, event.workerId()));
+            case REPLACE -> {
+                historyInsert.add(row(now, AssignmentAction.UNASSIGNED, event, event.previousWorkerId()));
+                historyInsert.add(row(now, AssignmentAction.ASSIGNED, event, event.workerId()));
+            }
+        }
+    }
+
+    private Object[] row(Timestamp recordedAt, AssignmentAction action, AssignmentChangedEvent event, String workerId) {
+        String assignmentId = event.assignmentId();
+        // after a reassignment the row belongs to the new worker
+        String rowWorkerId = event.workerId();
+        return new Object[]{recordedAt, action.name(), assignmentId, workerId,
+                event.zoneId(), assignmentId, rowWorkerId,
+                event.routeId(), assignmentId, rowWorkerId,
+                event.shift() == null ? null : event.shift().name(), assignmentId, rowWorkerId,
+                auditor.currentWorkerId()};
+    }
+}
@@ -0,0 +1,108 @@
+package com.wastewise.worker.management.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Recent responses of mutating requests by Idempotency-Key, bounded by the total size of the stored bodies and
+ * evicted ttl after the response was stored. A key is claimed before its request runs, so a duplicate arriving
+ * while the first is still running waits for that response instead of running again.
+ */
+public class IdempotencyStore implements MeterBinder {
+
+    static final String CACHE_NAME = "idempotency";
+
+    // rough per-entry overhead, keeps many tiny responses from being free
+    private static final int ENTRY_OVERHEAD = 256;
+
+    /**
+     * @param status HTTP status
+     * @param contentType Content-Type header, may be null
+     * @param headers the other response headers, such as Location
+     * @param body response body
+     */
+    public record StoredResponse(int status, String contentType, Map<String, List<String>> headers, byte[] body) {
+    }
+
+    /**
+     * A claimed key: the fingerprint of the request that claimed it and its response once stored.
+     * The response completes with null when the request ended without a storable response.
+     */
+    public record Entry(String fingerprint, CompletableFuture<StoredResponse> response) {
+    }
+
+    /**
+     * @param entry the entry for the key
+     * @param owner true when this call claimed the key and its request has to run
+     */
+    public record Claim(Entry entry, boolean owner) {
+    }
+
+    private final Cache<String, Entry> entries;
+
+    public IdempotencyStore(long maxSizeBytes, Duration ttl) {
+        this.entries = Caffeine.newBuilder()
+                .maximumWeight(maxSizeBytes)
+                .weigher(IdempotencyStore::weigh)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * @param key caller scoped Idempotency-Key
+     * @param fingerprint identifies the request, a key may only be reused for the same request
+     * @return a new entry owned by the caller when the key is free, otherwise the existing one
+     */
+    public Claim claim(String key, String fingerprint) {
+        Entry claimed = new Entry(fingerprint, new CompletableFuture<>());
+        Entry existing = entries.asMap().putIfAbsent(key, claimed);
+        return existing == null ? new Claim(claimed, true) : new Claim(existing, false);
+    }
+
+    /**
+     * Stores the response of an owned entry and releases the requests waiting for it
+     */
+    public void complete(String key, Entry entry, StoredResponse response) {
+        entry.response().complete(response);
+        // put again so the entry is weighed with its body and expires ttl from now
+        entries.asMap().replace(key, entry, entry);
+    }
+
+    /**
+     * Frees the key of an owned entry whose request has no response worth keeping; waiting duplicates run again
+     */
+    public void release(String key, Entry entry) {
+        entries.asMap().remove(key, entry);
+        entry.response().complete(null);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // same tag keys as the cache manager's caches, Prometheus drops meters whose tag keys differ
+        CaffeineCacheMetrics.monitor(registry, entries, CACHE_NAME, "cache.manager", "idempotencyStore", "name", CACHE_NAME);
+    }
+
+    private static int weigh(String key, Entry entry) {
+        StoredResponse response = entry.response().getNow(null);
+        int stored = 0;
+        if (response != null) {
+            stored = response.body().length;
+            for (Map.Entry<String, List<String>> header : response.headers().entrySet()) {
+                stored += header.getKey().length();
+                for (String value : header.getValue()) {
+                    stored += value.length();
+                }
+            }
+        }
+        return ENTRY_OVERHEAD + key.length() + entry.fingerprint().length() + stored;
+    }
+}
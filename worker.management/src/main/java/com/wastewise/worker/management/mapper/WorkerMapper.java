@@ -11,6 +11,13 @@ import org.mapstruct.MappingTarget;
 @Mapper(componentModel = "spring")
 public interface WorkerMapper {
 
+    // id, audit columns and version are set by the service and Hibernate
+    @Mapping(target = "workerId", ignore = true)
+    @Mapping(target = "createdBy", ignore = true)
+    @Mapping(target = "createdDate", ignore = true)
+    @Mapping(target = "updatedBy", ignore = true)
+    @Mapping(target = "updatedDate", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Worker toEntity(WorkerCreateDTO dto);
 
     @Mapping(source = "workerId", target = "workerId")
@@ -19,5 +26,8 @@ public interface WorkerMapper {
     @Mapping(target = "workerId", ignore = true)
     @Mapping(target = "createdBy", ignore = true)
     @Mapping(target = "createdDate", ignore = true)
+    @Mapping(target = "updatedBy", ignore = true)
+    @Mapping(target = "updatedDate", ignore = true)
+    @Mapping(target = "version", ignore = true)
     void updateWorkerFromDTO(WorkerUpdateDTO dto, @MappingTarget Worker entity);
 }
\ No newline at end of file
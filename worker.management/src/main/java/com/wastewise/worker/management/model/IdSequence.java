@@ -0,0 +1,27 @@
+package com.wastewise.worker.management.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Row of the sequence table used to hand out blocks of ids, one row per sequence. Defines the table only,
+ * WorkerIdGenerator (on its own connection) and OutboxPublishSequence read and write it with plain JDBC
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "id_sequence")
+public class IdSequence {
+    @Id
+    @Column(name = "sequence_name")
+    private String sequenceName;
+
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue;
+}
@@ -12,8 +12,16 @@ import java.time.LocalDateTime;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity
-@Table(name = "worker")
+@Table(name = "worker", indexes = {
+        @Index(name = "idx_worker_status_role", columnList = "worker_status, role_id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = Worker.UK_CONTACT_NUMBER, columnNames = "contact_number"),
+        @UniqueConstraint(name = Worker.UK_CONTACT_EMAIL, columnNames = "contact_email")
+})
 public class Worker {
+    public static final String UK_CONTACT_NUMBER = "uk_worker_contact_number";
+    public static final String UK_CONTACT_EMAIL = "uk_worker_contact_email";
+
     @Id
     @Column(name = "worker_id")
     private String workerId;
@@ -46,4 +54,9 @@ public class Worker {
     @Column(name = "updated_date")
     private LocalDateTime updatedDate;
 
+    // optimistic lock, concurrent updates of the same worker fail instead of silently overwriting each other
+    @Version
+    @Column(name = "version", nullable = false, columnDefinition = "bigint default 0")
+    private Long version;
+
 }
@@ -12,7 +12,10 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Entity
-@Table(name = "worker_assignment")
+@Table(name = "worker_assignment", indexes = {
+        @Index(name = "idx_worker_assignment_zone_shift", columnList = "zone_id, shift"),
+        @Index(name = "idx_worker_assignment_route", columnList = "route_id")
+})
 public class WorkerAssignment {
 
     @EmbeddedId
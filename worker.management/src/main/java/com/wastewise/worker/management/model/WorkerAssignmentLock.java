@@ -0,0 +1,26 @@
+package com.wastewise.worker.management.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row per assignment that ever had workers, locked by every transaction adding workers to the assignment so the
+ * two-workers cap is checked and applied by one transaction at a time. Defines the table only, the rows are
+ * written and locked by AssignmentLockRepository with plain JDBC.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "worker_assignment_lock")
+public class WorkerAssignmentLock {
+
+    @Id
+    @Column(name = "assignment_id")
+    private String assignmentId;
+}
@@ -0,0 +1,57 @@
+package com.wastewise.worker.management.model;
+
+import com.wastewise.worker.management.enums.WorkerStatus;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Worker status change waiting to be handed to the outbox sink, written in the transaction that made the change.
+ * Rows are inserted by WorkerStatusOutboxWriter with plain JDBC, the entity defines the table and is used for reads.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Entity
+@Table(name = "worker_status_outbox", indexes = {
+        @Index(name = "idx_outbox_published_id", columnList = "published_at, id"),
+        @Index(name = "idx_outbox_publish_seq", columnList = "publish_seq", unique = true)
+})
+public class WorkerStatusOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "id")
+    private Long id;
+
+    @Column(name = "worker_id", nullable = false)
+    private String workerId;
+
+    @Column(name = "role_id")
+    private String roleId;
+
+    @Column(name = "previous_status")
+    @Enumerated(EnumType.STRING)
+    private WorkerStatus previousStatus;
+
+    @Column(name = "new_status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private WorkerStatus newStatus;
+
+    @Column(name = "changed_by")
+    private String changedBy;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    // null until the relay has handed the row to the sink
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    // position in publish order and eventId of the change, set together with publishedAt
+    @Column(name = "publish_seq")
+    private Long publishSeq;
+}
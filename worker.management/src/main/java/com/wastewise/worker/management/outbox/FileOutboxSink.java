@@ -0,0 +1,50 @@
+package com.wastewise.worker.management.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.wastewise.worker.management.dto.WorkerStatusChangeDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Appends the status changes to a newline delimited JSON file, one batch per write
+ */
+@Component
+@ConditionalOnProperty(name = "wastewise.outbox.sink", havingValue = "file")
+public class FileOutboxSink implements OutboxSink {
+
+    private final ObjectMapper objectMapper;
+    private final Path path;
+
+    public FileOutboxSink(ObjectMapper objectMapper,
+                          @Value("${wastewise.outbox.file.path:outbox/worker-status-events.ndjson}") Path path) throws IOException {
+        this.objectMapper = objectMapper;
+        this.path = path;
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+    }
+
+    @Override
+    public void publish(List<WorkerStatusChangeDTO> changes) {
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+             SequenceWriter sequenceWriter = objectMapper.writer().withRootValueSeparator("\n").writeValues(writer)) {
+            sequenceWriter.writeAll(changes);
+            sequenceWriter.flush();
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append worker status changes to " + path, e);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.wastewise.worker.management.outbox;
+
+import com.wastewise.worker.management.dto.WorkerStatusChangeDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps the most recent status changes in memory, for local runs and tests without a message broker
+ */
+@Component
+@ConditionalOnProperty(name = "wastewise.outbox.sink", havingValue = "memory", matchIfMissing = true)
+public class InMemoryOutboxSink implements OutboxSink {
+
+    private final int capacity;
+    private final Deque<WorkerStatusChangeDTO> recent;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    public InMemoryOutboxSink(@Value("${wastewise.outbox.memory.capacity:1000}") int capacity) {
+        this.capacity = capacity;
+        this.recent = new ArrayDeque<>(capacity);
+    }
+
+    @Override
+    public void publish(List<WorkerStatusChangeDTO> changes) {
+        lock.lock();
+        try {
+            for (WorkerStatusChangeDTO change : changes) {
+                if (recent.size() == capacity) {
+                    recent.removeFirst();
+                }
+                recent.addLast(change);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return up to capacity of the latest changes, oldest first
+     */
+    public List<WorkerStatusChangeDTO> recent() {
+        lock.lock();
+        try {
+            return List.copyOf(recent);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package com.wastewise.worker.management.outbox;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Numbers outbox rows in the order they are published, the number is the eventId subscribers resume from.
+ * Outbox ids are assigned when a row is inserted, not when its transaction commits, and the relay skips rows
+ * locked by other relays, so a row with a lower id can be published after one with a higher id. The publish
+ * sequence lives in id_sequence and its row stays locked until the relay's transaction commits: batches become
+ * visible in sequence order, and a subscriber that has seen a number has seen every number below it.
+ * Must be called inside the relay's transaction.
+ */
+@Component
+public class OutboxPublishSequence {
+
+    static final String SEQUENCE_NAME = "worker_status_outbox.publish_seq";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public OutboxPublishSequence(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @return the first of count consecutive publish numbers, the sequence is locked until commit
+     */
+    public long reserve(int count) {
+        List<Long> current = jdbcTemplate.queryForList(
+                "SELECT next_value FROM id_sequence WHERE sequence_name = ? FOR UPDATE", Long.class, SEQUENCE_NAME);
+        if (!current.isEmpty()) {
+            long start = current.get(0);
+            jdbcTemplate.update("UPDATE id_sequence SET next_value = ? WHERE sequence_name = ?", start + count, SEQUENCE_NAME);
+            return start;
+        }
+        // start above every outbox id, the eventIds handed out before the sequence existed stay valid; a relay
+        // initialising it concurrently fails on the duplicate row and retries with the next run
+        Long highest = jdbcTemplate.queryForObject(
+                "SELECT GREATEST(COALESCE(MAX(id), 0), COALESCE(MAX(publish_seq), 0)) FROM worker_status_outbox", Long.class);
+        long start = (highest == null ? 0 : highest) + 1;
+        jdbcTemplate.update("INSERT INTO id_sequence (sequence_name, next_value) VALUES (?, ?)", SEQUENCE_NAME, start + count);
+        return start;
+    }
+
+    /**
+     * Marks the rows published, numbering them from start in the given order
+     */
+    public void markPublished(List<Long> ids, long start, LocalDateTime publishedAt) {
+        Timestamp timestamp = Timestamp.valueOf(publishedAt);
+        long[] sequence = {start};
+        jdbcTemplate.batchUpdate("UPDATE worker_status_outbox SET published_at = ?, publish_seq = ? WHERE id = ?",
+                ids, ids.size(), (ps, id) -> {
+                    ps.setTimestamp(1, timestamp);
+                    ps.setLong(2, sequence[0]++);
+                    ps.setLong(3, id);
+                });
+    }
+}
@@ -0,0 +1,18 @@
+package com.wastewise.worker.management.outbox;
+
+import com.wastewise.worker.management.dto.WorkerStatusChangeDTO;
+
+import java.util.List;
+
+/**
+ * Destination of the worker status changes relayed from the outbox, chosen with wastewise.outbox.sink.
+ * A batch that throws is retried with the next relay run, so a sink sees every change at least once
+ * and must tolerate repeated eventIds.
+ */
+public interface OutboxSink {
+
+    /**
+     * @param changes committed status changes in eventId order
+     */
+    void publish(List<WorkerStatusChangeDTO> changes);
+}
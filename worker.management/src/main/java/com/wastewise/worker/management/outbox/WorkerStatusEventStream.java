@@ -0,0 +1,125 @@
+package com.wastewise.worker.management.outbox;
+
+import com.wastewise.worker.management.dto.WorkerStatusChangeDTO;
+import com.wastewise.worker.management.repository.WorkerStatusOutboxRepository;
+import com.wastewise.worker.management.util.SseBroadcaster;
+import com.wastewise.worker.management.util.SseBroadcaster.SseEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Server-Sent Events feed of the worker status changes published by the outbox relay. Every instance tails the
+ * published rows of the outbox table by eventId while it has subscribers, so they get the changes relayed by any
+ * instance; the publish sequence makes rows visible in eventId order, the tail never skips one. A subscriber that
+ * reconnects with the id of the last event it received first gets the published changes it missed, then the live
+ * ones; a change can arrive twice around the reconnect, the eventId tells them apart.
+ */
+@Slf4j
+@Component
+public class WorkerStatusEventStream {
+
+    static final String EVENT_NAME = "worker-status";
+
+    private final WorkerStatusOutboxRepository outboxRepository;
+    private final SseBroadcaster broadcaster;
+    private final int replayLimit;
+    // guards tailedUpTo; a lock rather than synchronized so a waiting virtual thread does not pin its carrier
+    private final ReentrantLock tailLock = new ReentrantLock();
+    // eventId of the last change broadcast, null while nobody is subscribed
+    private Long tailedUpTo;
+
+    @Autowired
+    public WorkerStatusEventStream(WorkerStatusOutboxRepository outboxRepository,
+                                   @Qualifier("applicationTaskExecutor") Executor executor,
+                                   @Value("${wastewise.outbox.sse.max-subscribers:100}") int maxSubscribers,
+                                   @Value("${wastewise.outbox.sse.queue-capacity:1000}") int queueCapacity,
+                                   @Value("${wastewise.outbox.sse.timeout:PT30M}") Duration timeout,
+                                   @Value("${wastewise.outbox.sse.replay-limit:1000}") int replayLimit) {
+        this(outboxRepository, new SseBroadcaster(EVENT_NAME, maxSubscribers, queueCapacity, timeout, executor),
+                replayLimit);
+    }
+
+    WorkerStatusEventStream(WorkerStatusOutboxRepository outboxRepository, SseBroadcaster broadcaster, int replayLimit) {
+        this.outboxRepository = outboxRepository;
+        this.broadcaster = broadcaster;
+        this.replayLimit = replayLimit;
+    }
+
+    /**
+     * @param lastEventId eventId of the last change the subscriber received, null for live changes only
+     * @return connection receiving the missed (at most replay-limit) and the following changes
+     */
+    public SseEmitter subscribe(Long lastEventId) {
+        tailLock.lock();
+        try {
+            // start the tail before the subscriber is added, the changes published in between reach it
+            if (tailedUpTo == null) {
+                tailedUpTo = lastPublished();
+            }
+            if (lastEventId == null) {
+                return broadcaster.subscribe();
+            }
+            return broadcaster.subscribe(() -> outboxRepository.findPublishedAfter(lastEventId, Limit.of(replayLimit)).stream()
+                    .map(WorkerStatusEventStream::toEvent)
+                    .toList());
+        } finally {
+            tailLock.unlock();
+        }
+    }
+
+    /**
+     * Broadcasts the changes published since the last poll, by this or any other instance
+     */
+    @Scheduled(initialDelayString = "${wastewise.outbox.sse.poll-interval:PT1S}",
+            fixedDelayString = "${wastewise.outbox.sse.poll-interval:PT1S}")
+    public void poll() {
+        tailLock.lock();
+        try {
+            if (broadcaster.subscriberCount() == 0) {
+                tailedUpTo = null;
+                return;
+            }
+            if (tailedUpTo == null) {
+                tailedUpTo = lastPublished();
+                return;
+            }
+            List<WorkerStatusChangeDTO> changes;
+            do {
+                changes = outboxRepository.findPublishedAfter(tailedUpTo, Limit.of(replayLimit));
+                for (WorkerStatusChangeDTO change : changes) {
+                    broadcaster.broadcast(toEvent(change));
+                    tailedUpTo = change.getEventId();
+                }
+            } while (changes.size() == replayLimit);
+        } catch (RuntimeException e) {
+            log.warn("Reading published worker status changes failed, retrying with the next poll", e);
+        } finally {
+            tailLock.unlock();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${wastewise.outbox.sse.heartbeat-interval:PT15S}")
+    public void heartbeat() {
+        broadcaster.heartbeat();
+    }
+
+    private long lastPublished() {
+        Long last = outboxRepository.findLastPublishSeq();
+        return last == null ? 0 : last;
+    }
+
+    private static SseEvent toEvent(WorkerStatusChangeDTO change) {
+        return new SseEvent(String.valueOf(change.getEventId()), EVENT_NAME, change);
+    }
+}
@@ -0,0 +1,96 @@
+package com.wastewise.worker.management.outbox;
+
+import com.wastewise.worker.management.dto.WorkerStatusChangeDTO;
+import com.wastewise.worker.management.model.WorkerStatusOutbox;
+import com.wastewise.worker.management.repository.WorkerStatusOutboxRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Moves committed status changes from the outbox table to the sink. Each batch is locked with SKIP LOCKED,
+ * handed to the sink and marked published in one transaction, so several instances can relay side by side and
+ * a batch the sink rejected stays in the table for the next run. Every published row gets the next numbers of the
+ * {@link OutboxPublishSequence} as its eventId, which orders the changes for the sink and the event stream even
+ * when relays publish rows out of id order. The {@link WorkerStatusEventStream} of every instance reads the
+ * published rows from the table, whichever instance relayed them. Published rows are deleted after the retention
+ * period.
+ */
+@Slf4j
+@Component
+public class WorkerStatusOutboxRelay {
+
+    private final WorkerStatusOutboxRepository outboxRepository;
+    private final OutboxPublishSequence publishSequence;
+    private final OutboxSink outboxSink;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration retention;
+
+    public WorkerStatusOutboxRelay(WorkerStatusOutboxRepository outboxRepository,
+                                   OutboxPublishSequence publishSequence,
+                                   OutboxSink outboxSink,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${wastewise.outbox.batch-size:500}") int batchSize,
+                                   @Value("${wastewise.outbox.retention:P7D}") Duration retention) {
+        this.outboxRepository = outboxRepository;
+        this.publishSequence = publishSequence;
+        this.outboxSink = outboxSink;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.retention = retention;
+    }
+
+    /**
+     * Relays batches until the outbox has no unpublished rows left
+     */
+    @Scheduled(initialDelayString = "${wastewise.outbox.relay-interval:PT1S}",
+            fixedDelayString = "${wastewise.outbox.relay-interval:PT1S}")
+    public void relay() {
+        List<WorkerStatusChangeDTO> published;
+        do {
+            try {
+                published = transactionTemplate.execute(status -> relayBatch());
+            } catch (RuntimeException e) {
+                log.warn("Relaying worker status changes failed, retrying with the next run", e);
+                return;
+            }
+        } while (published.size() == batchSize);
+    }
+
+    private List<WorkerStatusChangeDTO> relayBatch() {
+        List<WorkerStatusOutbox> rows = outboxRepository.lockUnpublished(batchSize);
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        // held until commit, relays hand their batches to the sink one after another in sequence order
+        long start = publishSequence.reserve(rows.size());
+        List<WorkerStatusChangeDTO> changes = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            WorkerStatusOutbox row = rows.get(i);
+            changes.add(new WorkerStatusChangeDTO(start + i, row.getWorkerId(), row.getRoleId(),
+                    row.getPreviousStatus(), row.getNewStatus(), row.getChangedBy(), row.getOccurredAt()));
+        }
+        outboxSink.publish(changes);
+        publishSequence.markPublished(rows.stream().map(WorkerStatusOutbox::getId).toList(), start, LocalDateTime.now());
+        log.debug("Relayed {} worker status changes", changes.size());
+        return changes;
+    }
+
+    @Scheduled(fixedDelayString = "${wastewise.outbox.purge-interval:PT1H}")
+    public void purge() {
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxRepository.deletePublishedBefore(LocalDateTime.now().minus(retention)));
+        if (deleted != null && deleted > 0) {
+            log.info("Deleted {} published worker status changes", deleted);
+        }
+    }
+}
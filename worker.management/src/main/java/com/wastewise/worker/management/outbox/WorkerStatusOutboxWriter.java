@@ -0,0 +1,46 @@
+package com.wastewise.worker.management.outbox;
+
+import com.wastewise.worker.management.event.WorkerStatusChangedEvent;
+import com.wastewise.worker.management.security.Auditor;
+import com.wastewise.worker.management.util.BeforeCommitBatchInsert;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+/**
+ * Writes every worker status transition to the worker_status_outbox table in the transaction that made it,
+ * so a change is published if and only if it was committed. The rows of a transaction are collected while it
+ * runs and inserted in one JDBC batch right before it commits; bulk creations and batch assignments
+ * therefore cost one round trip, not one insert per worker. Events that do not change the status
+ * (a role change on its own) are not written.
+ */
+@Component
+public class WorkerStatusOutboxWriter {
+
+    // events of the assignment service carry no role, it is then taken from the worker row by primary key
+    private static final String INSERT = "INSERT INTO worker_status_outbox " +
+            "(worker_id, role_id, previous_status, new_status, changed_by, occurred_at) " +
+            "VALUES (?, COALESCE(?, (SELECT w.role_id FROM worker w WHERE w.worker_id = ?)), ?, ?, ?, ?)";
+
+    private final BeforeCommitBatchInsert outboxInsert;
+    private final Auditor auditor;
+
+    public WorkerStatusOutboxWriter(JdbcTemplate jdbcTemplate, Auditor auditor) {
+        this.outboxInsert = new BeforeCommitBatchInsert(jdbcTemplate, INSERT);
+        this.auditor = auditor;
+    }
+
+    @EventListener
+    public void onWorkerStatusChanged(WorkerStatusChangedEvent event) {
+        if (event.previousStatus() == event.newStatus()) {
+            return;
+        }
+        Object[] row = {event.workerId(), event.roleId(), event.workerId(),
+                event.previousStatus() == null ? null : event.previousStatus().name(),
+                event.newStatus().name(), auditor.currentWorkerId(), Timestamp.valueOf(LocalDateTime.now())};
+        outboxInsert.add(row);
+    }
+}
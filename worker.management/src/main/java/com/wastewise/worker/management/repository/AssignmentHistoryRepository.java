@@ -0,0 +1,83 @@
+package com.wastewise.worker.management.repository;
+
+import com.wastewise.worker.management.dto.AssignmentHistoryDTO;
+import com.wastewise.worker.management.enums.AssignmentAction;
+import com.wastewise.worker.management.enums.Shift;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads of the worker_assignment_history table, which has no entity: it is created and partitioned by
+ * AssignmentHistoryTable and written by AssignmentHistoryWriter. Every query is bounded by recorded_at so MySQL
+ * only reads the partitions of the requested months.
+ */
+@Repository
+@DependsOn("assignmentHistoryTable")
+public class AssignmentHistoryRepository {
+
+    private static final String SELECT = "SELECT history_id, recorded_at, action_type, assignment_id, worker_id, " +
+            "zone_id, route_id, shift, changed_by FROM worker_assignment_history ";
+
+    private static final RowMapper<AssignmentHistoryDTO> ROW_MAPPER = (rs, rowNum) -> new AssignmentHistoryDTO(
+            rs.getLong("history_id"),
+            rs.getTimestamp("recorded_at").toLocalDateTime(),
+            AssignmentAction.valueOf(rs.getString("action_type")),
+            rs.getString("assignment_id"),
+            rs.getString("worker_id"),
+            rs.getString("zone_id"),
+            rs.getString("route_id"),
+            rs.getString("shift") == null ? null : Shift.valueOf(rs.getString("shift")),
+            rs.getString("changed_by"));
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AssignmentHistoryRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * @param from start of the range, inclusive
+     * @param to end of the range, exclusive
+     * @param afterId only rows with a greater historyId, 0 for the first page
+     * @return at most limit rows of the worker in historyId order
+     */
+    public List<AssignmentHistoryDTO> findByWorker(String workerId, LocalDateTime from, LocalDateTime to, long afterId, int limit) {
+        return jdbcTemplate.query(SELECT + "WHERE worker_id = ? AND recorded_at >= ? AND recorded_at < ? AND history_id > ? " +
+                "ORDER BY history_id LIMIT ?", ROW_MAPPER, workerId, Timestamp.valueOf(from), Timestamp.valueOf(to), afterId, limit);
+    }
+
+    /**
+     * @param from start of the range, inclusive
+     * @param to end of the range, exclusive
+     * @param afterId only rows with a greater historyId, 0 for the first page
+     * @return at most limit rows of the zone in historyId order
+     */
+    public List<AssignmentHistoryDTO> findByZone(String zoneId, LocalDateTime from, LocalDateTime to, long afterId, int limit) {
+        return jdbcTemplate.query(SELECT + "WHERE zone_id = ? AND recorded_at >= ? AND recorded_at < ? AND history_id > ? " +
+                "ORDER BY history_id LIMIT ?", ROW_MAPPER, zoneId, Timestamp.valueOf(from), Timestamp.valueOf(to), afterId, limit);
+    }
+
+    /**
+     * @return number of ASSIGNED rows per day and worker recorded since the given time
+     */
+    public Map<LocalDate, Map<String, Integer>> countAssignmentsByDayAndWorkerSince(LocalDateTime since) {
+        Map<LocalDate, Map<String, Integer>> counts = new HashMap<>();
+        jdbcTemplate.query("SELECT CAST(recorded_at AS DATE), worker_id, COUNT(*) FROM worker_assignment_history " +
+                        "WHERE recorded_at >= ? AND action_type = ? GROUP BY CAST(recorded_at AS DATE), worker_id",
+                rs -> {
+                    counts.computeIfAbsent(rs.getDate(1).toLocalDate(), day -> new HashMap<>())
+                            .put(rs.getString(2), rs.getInt(3));
+                },
+                Timestamp.valueOf(since), AssignmentAction.ASSIGNED.name());
+        return counts;
+    }
+}
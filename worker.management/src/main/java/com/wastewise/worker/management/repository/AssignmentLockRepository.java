@@ -0,0 +1,43 @@
+package com.wastewise.worker.management.repository;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Row locks per assignment id on worker_assignment_lock. Counting the workers of an assignment takes no lock and
+ * an assignment without workers has no row to lock, so the writers adding workers serialize on this row instead.
+ * Rows are kept once created, assignment ids are bounded. Must be called inside a transaction, the locks are held
+ * until it ends.
+ */
+@Repository
+public class AssignmentLockRepository {
+
+    // the upsert locks the row exclusively on MySQL, whether it inserts it or finds it
+    private static final String UPSERT = "INSERT INTO worker_assignment_lock (assignment_id) VALUES (?) " +
+            "ON DUPLICATE KEY UPDATE assignment_id = assignment_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public AssignmentLockRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Locks the given assignments, in ascending id order so two transactions locking overlapping sets cannot deadlock
+     */
+    public void lock(Collection<String> assignmentIds) {
+        List<String> ids = assignmentIds.stream().distinct().sorted().toList();
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT, ids, ids.size(), (ps, id) -> ps.setString(1, id));
+        // H2 does not lock a row the upsert leaves unchanged
+        String placeholders = String.join(", ", Collections.nCopies(ids.size(), "?"));
+        jdbcTemplate.queryForList("SELECT assignment_id FROM worker_assignment_lock WHERE assignment_id IN (" + placeholders + ") " +
+                "ORDER BY assignment_id FOR UPDATE", String.class, ids.toArray());
+    }
+}
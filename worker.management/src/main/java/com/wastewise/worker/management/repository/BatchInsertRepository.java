@@ -0,0 +1,12 @@
+package com.wastewise.worker.management.repository;
+
+import java.util.List;
+
+/**
+ * Repository fragment that inserts new entities with EntityManager.persist instead of save. save merges
+ * entities that carry an assigned id, which costs a SELECT per row before the INSERT and defeats JDBC batching.
+ */
+public interface BatchInsertRepository<T> {
+
+    void insertAll(List<T> entities);
+}
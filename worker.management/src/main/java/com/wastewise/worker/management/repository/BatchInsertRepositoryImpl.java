@@ -0,0 +1,38 @@
+package com.wastewise.worker.management.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+public class BatchInsertRepositoryImpl<T> implements BatchInsertRepository<T> {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${spring.jpa.properties.hibernate.jdbc.batch_size:50}")
+    private int batchSize;
+
+    /**
+     * Persists the entities, flushing after every JDBC batch and detaching the flushed entities so the session
+     * does not grow with the size of the list. Only the inserted entities are detached: entities the caller
+     * loaded earlier in the transaction (e.g. the locked workers the new assignments refer to) stay managed.
+     */
+    @Override
+    @Transactional
+    public void insertAll(List<T> entities) {
+        int flushed = 0;
+        for (int i = 0; i < entities.size(); i++) {
+            entityManager.persist(entities.get(i));
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                for (; flushed <= i; flushed++) {
+                    entityManager.detach(entities.get(flushed));
+                }
+            }
+        }
+        entityManager.flush();
+    }
+}
@@ -1,13 +1,104 @@
 package com.wastewise.worker.management.repository;
 
+import com.wastewise.worker.management.dto.AssignmentWorkerCountDTO;
+import com.wastewise.worker.management.dto.WorkerAssignmentDTO;
+import com.wastewise.worker.management.enums.Shift;
 import com.wastewise.worker.management.model.WorkerAssignment;
 import com.wastewise.worker.management.model.WorkerAssignmentId;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface WorkerAssignmentRepository extends JpaRepository<WorkerAssignment, WorkerAssignmentId> {
+public interface WorkerAssignmentRepository extends JpaRepository<WorkerAssignment, WorkerAssignmentId>, BatchInsertRepository<WorkerAssignment> {
     List<WorkerAssignment> findByIdAssignmentId(String id);
+
+    /**
+     * Number of workers already assigned to each of the given assignments, assignments without workers are left out
+     */
+    @Query("Select new com.wastewise.worker.management.dto.AssignmentWorkerCountDTO(a.id.assignmentId, count(a)) " +
+            "from WorkerAssignment a WHERE a.id.assignmentId IN :assignmentIds GROUP BY a.id.assignmentId")
+    List<AssignmentWorkerCountDTO> countWorkersByAssignmentIds(@Param("assignmentIds") Collection<String> assignmentIds);
+
+    /**
+     * All assignments as DTO projections. The workerId is read from the embedded id,
+     * so the eager worker association is never loaded.
+     */
+    @Query("Select new com.wastewise.worker.management.dto.WorkerAssignmentDTO(a.id.assignmentId, a.id.workerId, a.zoneId, a.routeId, a.shift) " +
+            "from WorkerAssignment a ORDER BY a.id.assignmentId, a.id.workerId")
+    List<WorkerAssignmentDTO> findAllAssignmentDTOs();
+
+    /**
+     * Workers assigned in a zone for one shift, served by the (zone_id, shift) index
+     */
+    @Query("Select new com.wastewise.worker.management.dto.WorkerAssignmentDTO(a.id.assignmentId, a.id.workerId, a.zoneId, a.routeId, a.shift) " +
+            "from WorkerAssignment a WHERE a.zoneId = :zoneId AND a.shift = :shift " +
+            "ORDER BY a.id.assignmentId, a.id.workerId")
+    List<WorkerAssignmentDTO> findByZoneAndShift(@Param("zoneId") String zoneId, @Param("shift") Shift shift);
+
+    /**
+     * Assignments on a route, served by the route_id index
+     */
+    @Query("Select new com.wastewise.worker.management.dto.WorkerAssignmentDTO(a.id.assignmentId, a.id.workerId, a.zoneId, a.routeId, a.shift) " +
+            "from WorkerAssignment a WHERE a.routeId = :routeId " +
+            "ORDER BY a.id.assignmentId, a.id.workerId")
+    List<WorkerAssignmentDTO> findByRoute(@Param("routeId") String routeId);
+
+    /**
+     * Streams the assignments matching the optional filters as DTO projections in a single query.
+     * A null filter matches every row. Must be consumed inside a transaction.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("Select new com.wastewise.worker.management.dto.WorkerAssignmentDTO(a.id.assignmentId, a.id.workerId, a.zoneId, a.routeId, a.shift) " +
+            "from WorkerAssignment a " +
+            "WHERE (:zoneId is null or a.zoneId = :zoneId) " +
+            "AND (:routeId is null or a.routeId = :routeId) " +
+            "AND (:shift is null or a.shift = :shift) " +
+            "ORDER BY a.id.assignmentId, a.id.workerId")
+    Stream<WorkerAssignmentDTO> streamAssignments(@Param("zoneId") String zoneId,
+                                                  @Param("routeId") String routeId,
+                                                  @Param("shift") Shift shift);
+
+    /**
+     * Moves an assignment row from one worker to another in place, keeping zone, route, shift and creation audit.
+     * Returns 0 when the old worker is not assigned to the assignment.
+     */
+    @Modifying
+    @Query(value = "UPDATE worker_assignment SET worker_id = :newWorkerId, updated_by = :updatedBy, updated_date = :updatedDate " +
+            "WHERE assignment_id = :assignmentId AND worker_id = :oldWorkerId", nativeQuery = true)
+    int reassignWorker(@Param("assignmentId") String assignmentId,
+                       @Param("oldWorkerId") String oldWorkerId,
+                       @Param("newWorkerId") String newWorkerId,
+                       @Param("updatedBy") String updatedBy,
+                       @Param("updatedDate") LocalDateTime updatedDate);
+
+    /**
+     * Moves both rows of an assignment to two new workers in a single statement.
+     * Returns the number of rows moved, anything other than 2 means an old worker was not assigned.
+     */
+    @Modifying
+    @Query(value = "UPDATE worker_assignment SET " +
+            "worker_id = CASE worker_id WHEN :oldWorkerId1 THEN :newWorkerId1 ELSE :newWorkerId2 END, " +
+            "updated_by = :updatedBy, updated_date = :updatedDate " +
+            "WHERE assignment_id = :assignmentId AND worker_id IN (:oldWorkerId1, :oldWorkerId2)", nativeQuery = true)
+    int reassignBothWorkers(@Param("assignmentId") String assignmentId,
+                            @Param("oldWorkerId1") String oldWorkerId1,
+                            @Param("oldWorkerId2") String oldWorkerId2,
+                            @Param("newWorkerId1") String newWorkerId1,
+                            @Param("newWorkerId2") String newWorkerId2,
+                            @Param("updatedBy") String updatedBy,
+                            @Param("updatedDate") LocalDateTime updatedDate);
 }
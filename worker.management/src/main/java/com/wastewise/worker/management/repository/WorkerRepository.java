@@ -1,29 +1,133 @@
 package com.wastewise.worker.management.repository;
 
+import com.wastewise.worker.management.dto.WorkerContactDTO;
+import com.wastewise.worker.management.dto.WorkerDTO;
+import com.wastewise.worker.management.dto.WorkerRoleStatusDTO;
+import com.wastewise.worker.management.enums.WorkerStatus;
 import com.wastewise.worker.management.model.Worker;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
-public interface WorkerRepository extends JpaRepository<Worker,String> {
-
-    @Query("Select count(w) from Worker w")
-    Long countAll();
+public interface WorkerRepository extends JpaRepository<Worker,String>, BatchInsertRepository<Worker> {
 
     @Query("Select w.workerId from Worker w")
     List<String> findAllWorkerId();
 
-    @Query("Select w.workerId from Worker w WHERE w.workerStatus = 'available' AND w.roleId = '003'")
-    List<String> findWorkerIdAvailableStatus();
+    @Query("Select w.workerId from Worker w WHERE w.workerStatus = 'AVAILABLE' AND w.roleId = :roleId ORDER BY w.workerId")
+    List<String> findAvailableWorkerIds(@Param("roleId") String roleId);
+
+    @Query("Select new com.wastewise.worker.management.dto.WorkerRoleStatusDTO(w.workerId, w.roleId, w.workerStatus) from Worker w")
+    List<WorkerRoleStatusDTO> findAllRoleStatuses();
+
+    /**
+     * Keyset page of workers ordered by workerId, starting right after the given cursor
+     */
+    @Query("Select new com.wastewise.worker.management.dto.WorkerDTO(w.workerId, w.name, w.contactNumber, w.contactEmail, w.workerStatus) " +
+            "from Worker w WHERE w.workerId > :afterWorkerId ORDER BY w.workerId")
+    List<WorkerDTO> findWorkerPageAfter(@Param("afterWorkerId") String afterWorkerId, Limit limit);
+
+    /**
+     * Streams every worker as a DTO projection. Together with useCursorFetch=true on the MySQL url the fetch size
+     * makes the driver read rows in chunks instead of buffering the whole result set. Must be consumed inside a transaction.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("Select new com.wastewise.worker.management.dto.WorkerDTO(w.workerId, w.name, w.contactNumber, w.contactEmail, w.workerStatus) " +
+            "from Worker w ORDER BY w.workerId")
+    Stream<WorkerDTO> streamAllWorkers();
+
+    /**
+     * Contact details of other workers using the given number or email, one query served by the two unique indexes
+     * @param excludedWorkerId worker whose own contacts are ignored, null to check against every worker
+     */
+    @Query("Select new com.wastewise.worker.management.dto.WorkerContactDTO(w.contactNumber, w.contactEmail) " +
+            "from Worker w WHERE (w.contactNumber = :contactNumber OR w.contactEmail = :contactEmail) " +
+            "AND (:excludedWorkerId is null OR w.workerId <> :excludedWorkerId)")
+    List<WorkerContactDTO> findContactConflicts(@Param("contactNumber") String contactNumber,
+                                                @Param("contactEmail") String contactEmail,
+                                                @Param("excludedWorkerId") String excludedWorkerId);
+
+    /**
+     * Streams the contact details of every worker. Must be consumed inside a transaction.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("Select new com.wastewise.worker.management.dto.WorkerContactDTO(w.contactNumber, w.contactEmail) from Worker w")
+    Stream<WorkerContactDTO> streamAllContacts();
+
+    /**
+     * Contact details of every worker already using one of the given numbers or emails, checked in one query
+     */
+    @Query("Select new com.wastewise.worker.management.dto.WorkerContactDTO(w.contactNumber, w.contactEmail) " +
+            "from Worker w WHERE w.contactNumber IN :contactNumbers OR w.contactEmail IN :contactEmails")
+    List<WorkerContactDTO> findUsedContacts(@Param("contactNumbers") Collection<String> contactNumbers,
+                                            @Param("contactEmails") Collection<String> contactEmails);
 
-    boolean existsByContactNumber(String contactNumber);
+    /**
+     * Loads the workers and locks their rows until the end of the transaction,
+     * so the statuses read cannot change before they are updated
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("Select w from Worker w WHERE w.workerId IN :workerIds")
+    List<Worker> findAllByIdForUpdate(@Param("workerIds") Collection<String> workerIds);
 
-    boolean existsByContactEmail(String contactEmail);
+    /**
+     * Sets the status of all the given workers in one statement
+     * @return number of workers updated
+     */
+    @Modifying
+    @Query("Update Worker w SET w.workerStatus = :workerStatus, w.updatedDate = :updatedDate, " +
+            "w.updatedBy = :updatedBy, w.version = w.version + 1 WHERE w.workerId IN :workerIds")
+    int updateStatus(@Param("workerIds") Collection<String> workerIds,
+                     @Param("workerStatus") WorkerStatus workerStatus,
+                     @Param("updatedDate") LocalDateTime updatedDate,
+                     @Param("updatedBy") String updatedBy);
 
-    boolean existsByContactNumberAndWorkerIdNot(String number, String id);
+    /**
+     * Compare-and-set status transition: only changes the status when the worker still has the expected one,
+     * so two concurrent requests can never both move the same worker out of a status
+     * @return 1 when the transition happened, 0 when the worker does not exist or has another status
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("Update Worker w SET w.workerStatus = :newStatus, w.updatedDate = :updatedDate, " +
+            "w.updatedBy = :updatedBy, w.version = w.version + 1 " +
+            "WHERE w.workerId = :workerId AND w.workerStatus = :expectedStatus")
+    int compareAndSetStatus(@Param("workerId") String workerId,
+                            @Param("expectedStatus") WorkerStatus expectedStatus,
+                            @Param("newStatus") WorkerStatus newStatus,
+                            @Param("updatedDate") LocalDateTime updatedDate,
+                            @Param("updatedBy") String updatedBy);
 
-    boolean existsByContactEmailAndWorkerIdNot(String email, String id);
+    /**
+     * Set-based compare-and-set over several workers in one statement. Callers compare the returned
+     * row count with the number of ids to know whether every worker was still in the expected status.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("Update Worker w SET w.workerStatus = :newStatus, w.updatedDate = :updatedDate, " +
+            "w.updatedBy = :updatedBy, w.version = w.version + 1 " +
+            "WHERE w.workerId IN :workerIds AND w.workerStatus = :expectedStatus")
+    int compareAndSetStatuses(@Param("workerIds") Collection<String> workerIds,
+                              @Param("expectedStatus") WorkerStatus expectedStatus,
+                              @Param("newStatus") WorkerStatus newStatus,
+                              @Param("updatedDate") LocalDateTime updatedDate,
+                              @Param("updatedBy") String updatedBy);
 }
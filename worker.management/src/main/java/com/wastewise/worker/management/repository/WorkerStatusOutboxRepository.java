@@ -0,0 +1,44 @@
+package com.wastewise.worker.management.repository;
+
+import com.wastewise.worker.management.dto.WorkerStatusChangeDTO;
+import com.wastewise.worker.management.model.WorkerStatusOutbox;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface WorkerStatusOutboxRepository extends JpaRepository<WorkerStatusOutbox, Long> {
+
+    /**
+     * Locks the oldest unpublished rows. Rows locked by another relay (another instance) are skipped
+     * instead of waited for, so instances work on different batches.
+     */
+    @Query(value = "SELECT * FROM worker_status_outbox WHERE published_at IS NULL ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED",
+            nativeQuery = true)
+    List<WorkerStatusOutbox> lockUnpublished(@Param("limit") int limit);
+
+    /**
+     * Published changes after the given event id (publish sequence), used to replay what a reconnecting
+     * subscriber missed
+     */
+    @Query("Select new com.wastewise.worker.management.dto.WorkerStatusChangeDTO(o.publishSeq, o.workerId, o.roleId, " +
+            "o.previousStatus, o.newStatus, o.changedBy, o.occurredAt) from WorkerStatusOutbox o " +
+            "WHERE o.publishSeq > :afterId ORDER BY o.publishSeq")
+    List<WorkerStatusChangeDTO> findPublishedAfter(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * Event id of the latest published change, null when there is none
+     */
+    @Query("SELECT MAX(o.publishSeq) FROM WorkerStatusOutbox o")
+    Long findLastPublishSeq();
+
+    @Modifying
+    @Query("DELETE FROM WorkerStatusOutbox o WHERE o.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,15 @@
+package com.wastewise.worker.management.retry;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Re-runs the annotated transactional method in a fresh transaction when it fails because of a concurrent
+ * update (optimistic lock conflict, lock timeout or deadlock), up to wastewise.retry.max-attempts times
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RetryOnConflict {
+}
@@ -0,0 +1,55 @@
+package com.wastewise.worker.management.retry;
+
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Runs before the transaction interceptor (lower order value), so every attempt gets its own transaction
+ */
+@Slf4j
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+public class RetryOnConflictAspect {
+
+    private final int maxAttempts;
+    private final long backoffMillis;
+
+    public RetryOnConflictAspect(@Value("${wastewise.retry.max-attempts:5}") int maxAttempts,
+                                 @Value("${wastewise.retry.backoff-millis:20}") long backoffMillis) {
+        this.maxAttempts = maxAttempts;
+        this.backoffMillis = backoffMillis;
+    }
+
+    @Around("@annotation(com.wastewise.worker.management.retry.RetryOnConflict)")
+    public Object retry(ProceedingJoinPoint joinPoint) throws Throwable {
+        // inside an outer transaction a retry would reuse the same failed transaction, leave it to the caller
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return joinPoint.proceed();
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return joinPoint.proceed();
+            } catch (ConcurrencyFailureException ex) {
+                if (attempt >= maxAttempts) {
+                    log.warn("{} still conflicting after {} attempts", joinPoint.getSignature().toShortString(), attempt);
+                    throw ex;
+                }
+                log.info("Concurrent update in {}, retrying (attempt {} of {})",
+                        joinPoint.getSignature().toShortString(), attempt + 1, maxAttempts);
+                // randomised linear backoff so the competing requests do not collide again
+                Thread.sleep(backoffMillis * attempt + ThreadLocalRandom.current().nextLong(backoffMillis + 1));
+            }
+        }
+    }
+}
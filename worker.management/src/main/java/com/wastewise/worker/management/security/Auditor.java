@@ -0,0 +1,30 @@
+package com.wastewise.worker.management.security;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Optional;
+
+/**
+ * Supplies the created_by / updated_by value: the worker id of the authenticated request, or {@link #SYSTEM}
+ * for work done outside a request (scheduled jobs) or with token verification switched off.
+ */
+@Component
+public class Auditor {
+
+    public static final String SYSTEM = "000";
+
+    public String currentWorkerId() {
+        return currentPrincipal().map(RequestPrincipal::workerId).orElse(SYSTEM);
+    }
+
+    public Optional<RequestPrincipal> currentPrincipal() {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null) {
+            return Optional.empty();
+        }
+        return attributes.getAttribute(RequestPrincipal.ATTRIBUTE, RequestAttributes.SCOPE_REQUEST)
+                instanceof RequestPrincipal principal ? Optional.of(principal) : Optional.empty();
+    }
+}
@@ -0,0 +1,105 @@
+package com.wastewise.worker.management.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.wastewise.worker.management.client.AuthServiceClient;
+import com.wastewise.worker.management.client.DownstreamCalls;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Public keys of auth-service by key id, fetched once at startup and kept in memory, so verifying a token
+ * needs no call to auth-service. A token signed with a key id not seen yet (key rotation) triggers one refetch,
+ * at most once per {@code minRefreshInterval} so that forged key ids cannot hammer auth-service.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "wastewise.security.jwt", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class JwtKeyStore {
+
+    private final AuthServiceClient authServiceClient;
+    private final DownstreamCalls downstreamCalls;
+    private final Duration minRefreshInterval;
+    // a lock instead of synchronized: the fetch is network I/O and must not pin a virtual thread's carrier
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile Map<String, JWSVerifier> verifiers = Map.of();
+    private volatile Instant lastRefresh = Instant.EPOCH;
+
+    public JwtKeyStore(AuthServiceClient authServiceClient, DownstreamCalls downstreamCalls,
+                       @Value("${wastewise.security.jwt.min-key-refresh-interval:PT30S}") Duration minRefreshInterval) {
+        this.authServiceClient = authServiceClient;
+        this.downstreamCalls = downstreamCalls;
+        this.minRefreshInterval = minRefreshInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        try {
+            refresh();
+        } catch (RuntimeException ex) {
+            log.warn("Could not fetch the signing keys of auth-service, retrying on the first request: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * @param keyId kid header of the token
+     * @return verifier for the key, null when auth-service does not publish such a key
+     */
+    public JWSVerifier verifierFor(String keyId) {
+        JWSVerifier verifier = verifiers.get(keyId);
+        if (verifier != null) {
+            return verifier;
+        }
+        refreshLock.lock();
+        try {
+            verifier = verifiers.get(keyId);
+            if (verifier == null && Instant.now().isAfter(lastRefresh.plus(minRefreshInterval))) {
+                refresh();
+                verifier = verifiers.get(keyId);
+            }
+            return verifier;
+        } catch (RuntimeException ex) {
+            log.warn("Could not fetch the signing keys of auth-service: {}", ex.getMessage());
+            return null;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void refresh() {
+        refreshLock.lock();
+        try {
+            lastRefresh = Instant.now();
+            JWKSet jwkSet = JWKSet.parse(downstreamCalls.call(DownstreamCalls.AUTH_SERVICE, authServiceClient::getJwkSet));
+            Map<String, JWSVerifier> loaded = new HashMap<>();
+            for (JWK jwk : jwkSet.getKeys()) {
+                if (jwk instanceof RSAKey rsaKey && jwk.getKeyID() != null
+                        && (jwk.getKeyUse() == null || KeyUse.SIGNATURE.equals(jwk.getKeyUse()))) {
+                    loaded.put(jwk.getKeyID(), new RSASSAVerifier(rsaKey));
+                }
+            }
+            verifiers = Map.copyOf(loaded);
+            log.info("Loaded {} signing keys of auth-service", loaded.size());
+        } catch (ParseException | JOSEException ex) {
+            throw new IllegalStateException("Invalid JWK set returned by auth-service", ex);
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.wastewise.worker.management.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.wastewise.worker.management.exception.InvalidTokenException;
+
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.function.Function;
+
+/**
+ * Verifies RS256 access tokens issued by auth-service: signature against the cached public key, issuer, expiry and
+ * not-before, both allowing {@code clockSkew}. Tokens that passed are remembered until exp + clockSkew, the same
+ * deadline a full verification accepts, in a bounded cache keyed by the exact token string, so a client repeating
+ * its token pays for one RSA verification. Rejected tokens are never cached.
+ */
+public class JwtVerifier {
+
+    static final String ROLE_CLAIM = "role";
+    static final String ROLE_ID_CLAIM = "roleId";
+
+    private final Function<String, JWSVerifier> keys;
+    private final String issuer;
+    private final Duration clockSkew;
+    private final Clock clock;
+    private final Cache<String, RequestPrincipal> verified;
+
+    /**
+     * @param keys verifier by key id, returning null for unknown keys
+     * @param issuer expected iss claim
+     * @param clockSkew how long after its exp claim, and before its nbf claim, a token is still accepted
+     * @param maximumSize number of verified tokens remembered
+     */
+    public JwtVerifier(Function<String, JWSVerifier> keys, String issuer, Duration clockSkew, long maximumSize, Clock clock) {
+        this.keys = keys;
+        this.issuer = issuer;
+        this.clockSkew = clockSkew;
+        this.clock = clock;
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new UntilTokenExpiry(clock, clockSkew))
+                .build();
+    }
+
+    public RequestPrincipal verify(String token) {
+        RequestPrincipal principal = verified.getIfPresent(token);
+        if (principal != null && clock.instant().isBefore(acceptedUntil(principal.expiresAt(), clockSkew))) {
+            return principal;
+        }
+        principal = verifySignatureAndClaims(token);
+        verified.put(token, principal);
+        return principal;
+    }
+
+    private RequestPrincipal verifySignatureAndClaims(String token) {
+        try {
+            SignedJWT jwt = SignedJWT.parse(token);
+            if (!JWSAlgorithm.RS256.equals(jwt.getHeader().getAlgorithm())) {
+                throw new InvalidTokenException("Unsupported signature algorithm " + jwt.getHeader().getAlgorithm());
+            }
+            String keyId = jwt.getHeader().getKeyID();
+            if (keyId == null || keyId.isBlank()) {
+                throw new InvalidTokenException("Token without key id");
+            }
+            JWSVerifier verifier = keys.apply(keyId);
+            if (verifier == null) {
+                throw new InvalidTokenException("Unknown signing key");
+            }
+            if (!jwt.verify(verifier)) {
+                throw new InvalidTokenException("Invalid token signature");
+            }
+            JWTClaimsSet claims = jwt.getJWTClaimsSet();
+            if (!issuer.equals(claims.getIssuer())) {
+                throw new InvalidTokenException("Token not issued by " + issuer);
+            }
+            if (claims.getExpirationTime() == null || claims.getSubject() == null) {
+                throw new InvalidTokenException("Token without expiry or subject");
+            }
+            Instant now = clock.instant();
+            Instant expiresAt = claims.getExpirationTime().toInstant();
+            if (!now.isBefore(acceptedUntil(expiresAt, clockSkew))) {
+                throw new InvalidTokenException("Token expired at " + expiresAt);
+            }
+            if (claims.getNotBeforeTime() != null && now.plus(clockSkew).isBefore(claims.getNotBeforeTime().toInstant())) {
+                throw new InvalidTokenException("Token not valid before " + claims.getNotBeforeTime().toInstant());
+            }
+            return new RequestPrincipal(claims.getSubject(), claims.getStringClaim(ROLE_ID_CLAIM),
+                    claims.getStringClaim(ROLE_CLAIM), expiresAt);
+        } catch (ParseException ex) {
+            throw new InvalidTokenException("Malformed token");
+        } catch (JOSEException ex) {
+            throw new InvalidTokenException("Token signature could not be checked");
+        }
+    }
+
+    private static Instant acceptedUntil(Instant expiresAt, Duration clockSkew) {
+        return expiresAt.plus(clockSkew);
+    }
+
+    private record UntilTokenExpiry(Clock clock, Duration clockSkew) implements Expiry<String, RequestPrincipal> {
+
+        @Override
+        public long expireAfterCreate(String token, RequestPrincipal principal, long currentTime) {
+            return Math.max(0, Duration.between(clock.instant(), acceptedUntil(principal.expiresAt(), clockSkew)).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String token, RequestPrincipal principal, long currentTime, long currentDuration) {
+            return expireAfterCreate(token, principal, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String token, RequestPrincipal principal, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.wastewise.worker.management.security;
+
+import java.time.Instant;
+
+/**
+ * The worker a request was authenticated as, taken from the claims of its verified access token.
+ * Stored as the {@link #ATTRIBUTE} request attribute for the duration of the request.
+ */
+public record RequestPrincipal(String workerId, String roleId, String roleName, Instant expiresAt) {
+
+    public static final String ATTRIBUTE = RequestPrincipal.class.getName();
+}
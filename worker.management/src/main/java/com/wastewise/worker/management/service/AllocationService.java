@@ -0,0 +1,9 @@
+package com.wastewise.worker.management.service;
+
+import com.wastewise.worker.management.dto.AllocationReportDTO;
+import com.wastewise.worker.management.dto.AllocationRequestDTO;
+
+public interface AllocationService {
+
+    AllocationReportDTO allocate(AllocationRequestDTO request);
+}
@@ -0,0 +1,13 @@
+package com.wastewise.worker.management.service;
+
+import com.wastewise.worker.management.dto.AssignmentHistoryDTO;
+
+import java.time.LocalDate;
+import java.util.List;
+
+public interface AssignmentHistoryService {
+
+    List<AssignmentHistoryDTO> findWorkerHistory(String workerId, LocalDate from, LocalDate to, long afterId, int limit);
+
+    List<AssignmentHistoryDTO> findZoneHistory(String zoneId, LocalDate from, LocalDate to, long afterId, int limit);
+}
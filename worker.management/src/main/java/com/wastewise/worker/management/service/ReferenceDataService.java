@@ -0,0 +1,11 @@
+package com.wastewise.worker.management.service;
+
+import com.wastewise.worker.management.dto.RouteDTO;
+import com.wastewise.worker.management.dto.ZoneDTO;
+
+public interface ReferenceDataService {
+
+    ZoneDTO getZone(String zoneId);
+
+    RouteDTO getRoute(String routeId);
+}
@@ -1,11 +1,30 @@
 package com.wastewise.worker.management.service;
 
+import com.wastewise.worker.management.dto.WorkerAssignmentBatchReportDTO;
 import com.wastewise.worker.management.dto.WorkerAssignmentDTO;
+import com.wastewise.worker.management.enums.Shift;
+
+import java.util.List;
+import java.util.function.Consumer;
 
 public interface WorkerAssignmentService {
 
+    List<WorkerAssignmentDTO> findAllWorkerAssignments();
+
+    List<WorkerAssignmentDTO> snapshotWorkerAssignments();
+
+    List<WorkerAssignmentDTO> findWorkersByZoneAndShift(String zoneId, Shift shift);
+
+    List<WorkerAssignmentDTO> findAssignmentsByRoute(String routeId);
+
+    void exportWorkerAssignments(String zoneId, String routeId, Shift shift, Consumer<WorkerAssignmentDTO> consumer);
+
+    void validateRoute(String zoneId, String routeId);
+
     String assignWorkerToAssignment(String assignmentId, String workerId, WorkerAssignmentDTO dto);
 
+    WorkerAssignmentBatchReportDTO assignWorkersInBatch(List<WorkerAssignmentDTO> dtos);
+
     String updateSingleWorkerAssignment(String assignmentId, String oldWorkerId, String newWorkerId);
 
     String updateBothWorkerAssignments(String assignmentId,
@@ -1,22 +1,29 @@
 package com.wastewise.worker.management.service;
 
+import com.wastewise.worker.management.dto.WorkerBulkReportDTO;
 import com.wastewise.worker.management.dto.WorkerCreateDTO;
 import com.wastewise.worker.management.dto.WorkerDTO;
+import com.wastewise.worker.management.dto.WorkerPageDTO;
 import com.wastewise.worker.management.dto.WorkerUpdateDTO;
 import com.wastewise.worker.management.enums.WorkerStatus;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface WorkerService {
     String createWorker(WorkerCreateDTO dto);
 
-    List<WorkerDTO> getAllWorkers();
+    WorkerBulkReportDTO createWorkers(List<WorkerCreateDTO> dtos);
+
+    WorkerPageDTO getAllWorkers(String afterWorkerId, int limit);
+
+    void streamAllWorkers(Consumer<WorkerDTO> consumer);
 
     WorkerDTO getWorker(String id);
 
     List<String> getWorkerIds();
 
-    List<String> getAllAvailableWorkerIds();
+    List<String> getAllAvailableWorkerIds(String roleId);
 
     String updateWorker(String id, WorkerUpdateDTO dto);
 
@@ -0,0 +1,137 @@
+package com.wastewise.worker.management.service.serviceimpl;
+
+import com.wastewise.worker.management.allocation.AllocationPlanner;
+import com.wastewise.worker.management.allocation.WorkerLoadSource;
+import com.wastewise.worker.management.cache.AvailableWorkerIndex;
+import com.wastewise.worker.management.dto.AllocationReportDTO;
+import com.wastewise.worker.management.dto.AllocationRequestDTO;
+import com.wastewise.worker.management.dto.AssignmentSlotDTO;
+import com.wastewise.worker.management.dto.AssignmentWorkerCountDTO;
+import com.wastewise.worker.management.dto.WorkerAssignmentBatchResultDTO;
+import com.wastewise.worker.management.dto.WorkerAssignmentDTO;
+import com.wastewise.worker.management.enums.Shift;
+import com.wastewise.worker.management.repository.AssignmentLockRepository;
+import com.wastewise.worker.management.repository.WorkerAssignmentRepository;
+import com.wastewise.worker.management.retry.RetryOnConflict;
+import com.wastewise.worker.management.service.AllocationService;
+import com.wastewise.worker.management.service.WorkerAssignmentService;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@Service
+@Timed(value = "wastewise.allocation.service", histogram = true)
+public class AllocationServiceImpl implements AllocationService {
+    private static final int MAX_WORKERS_PER_ASSIGNMENT = 2;
+    // size limit of WorkerAssignmentService.assignWorkersInBatch
+    private static final int PERSIST_CHUNK_SIZE = 1000;
+
+    private final WorkerAssignmentRepository workerAssignmentRepository;
+
+    private final AssignmentLockRepository assignmentLockRepository;
+
+    private final WorkerAssignmentService workerAssignmentService;
+
+    private final AvailableWorkerIndex availableWorkerIndex;
+
+    private final WorkerLoadSource workerLoadSource;
+
+    public AllocationServiceImpl(WorkerAssignmentRepository workerAssignmentRepository,
+                                 AssignmentLockRepository assignmentLockRepository,
+                                 WorkerAssignmentService workerAssignmentService,
+                                 AvailableWorkerIndex availableWorkerIndex,
+                                 WorkerLoadSource workerLoadSource) {
+        this.workerAssignmentRepository = workerAssignmentRepository;
+        this.assignmentLockRepository = assignmentLockRepository;
+        this.workerAssignmentService = workerAssignmentService;
+        this.availableWorkerIndex = availableWorkerIndex;
+        this.workerLoadSource = workerLoadSource;
+    }
+
+    /**
+     * Fills every given assignment up to two workers from the AVAILABLE workers of the role, least loaded first.
+     * The assignments are locked first, so the open positions counted here stay open until commit. The plan is made
+     * in memory from the available worker index and one count query, then persisted through the batch assignment
+     * in the same transaction, which locks the chosen workers and rejects any that were taken in the meantime.
+     * Their positions are planned again from the remaining candidates until they are filled or the candidates
+     * run out; positions still open then are reported as unfilled.
+     * @param request role of the workers and the assignments (assignmentId, zoneId, routeId, shift)
+     * @return the created assignments and the positions left open
+     */
+    @Transactional
+    @RetryOnConflict
+    public AllocationReportDTO allocate(AllocationRequestDTO request) {
+        List<AssignmentSlotDTO> assignments = request.getAssignments();
+        Set<String> assignmentIds = new HashSet<>();
+        for (AssignmentSlotDTO assignment : assignments) {
+            if (!assignmentIds.add(assignment.getAssignmentId())) {
+                throw new IllegalArgumentException("Assignment " + assignment.getAssignmentId() + " is listed more than once");
+            }
+        }
+
+        // Step 1: lock the assignments and count their open positions, one count query for all of them
+        assignmentLockRepository.lock(assignmentIds);
+        Map<String, Long> workerCounts = new HashMap<>();
+        for (AssignmentWorkerCountDTO count : workerAssignmentRepository.countWorkersByAssignmentIds(assignmentIds)) {
+            workerCounts.put(count.getAssignmentId(), count.getWorkerCount());
+        }
+        List<AllocationPlanner.Slot> slots = new ArrayList<>(assignments.size());
+        Map<String, Integer> unfilled = new LinkedHashMap<>();
+        int openPositions = 0;
+        for (AssignmentSlotDTO assignment : assignments) {
+            int open = (int) Math.max(0, MAX_WORKERS_PER_ASSIGNMENT - workerCounts.getOrDefault(assignment.getAssignmentId(), 0L));
+            if (open > 0) {
+                slots.add(new AllocationPlanner.Slot(assignment.getAssignmentId(), assignment.getZoneId(),
+                        assignment.getRouteId(), Shift.valueOf(assignment.getShift()), open));
+                unfilled.put(assignment.getAssignmentId(), open);
+                openPositions += open;
+            }
+        }
+
+        // Step 2: plan in memory from the available worker index
+        List<String> candidates = availableWorkerIndex.getAvailableWorkerIds(request.getRoleId());
+        AllocationPlanner planner = new AllocationPlanner(candidates, workerLoadSource.loadsOf(candidates));
+        List<WorkerAssignmentDTO> planned = planner.fill(slots);
+        log.info("Planned {} of {} open positions from {} available workers", planned.size(), openPositions, candidates.size());
+
+        // Step 3: persist through the batch assignment, joining this transaction, and plan the positions of the
+        // rejected workers again; the assignments are locked, so only the workers can have been taken meanwhile
+        List<WorkerAssignmentDTO> created = new ArrayList<>(planned.size());
+        while (!planned.isEmpty()) {
+            Map<String, AllocationPlanner.Slot> replan = new LinkedHashMap<>();
+            for (int from = 0; from < planned.size(); from += PERSIST_CHUNK_SIZE) {
+                List<WorkerAssignmentDTO> chunk = planned.subList(from, Math.min(from + PERSIST_CHUNK_SIZE, planned.size()));
+                for (WorkerAssignmentBatchResultDTO result : workerAssignmentService.assignWorkersInBatch(chunk).getResults()) {
+                    WorkerAssignmentDTO position = chunk.get(result.getRow() - 1);
+                    if (result.isAssigned()) {
+                        created.add(position);
+                        unfilled.computeIfPresent(result.getAssignmentId(), (id, open) -> open == 1 ? null : open - 1);
+                    } else {
+                        log.info("Worker {} could not be assigned to {}: {}", result.getWorkerId(), result.getAssignmentId(), result.getMessage());
+                        replan.merge(position.getAssignmentId(), new AllocationPlanner.Slot(position.getAssignmentId(),
+                                        position.getZoneId(), position.getRouteId(), Shift.valueOf(position.getShift()), 1),
+                                (slot, one) -> new AllocationPlanner.Slot(slot.assignmentId(), slot.zoneId(),
+                                        slot.routeId(), slot.shift(), slot.openPositions() + 1));
+                    }
+                }
+            }
+            planned = replan.isEmpty() ? List.of() : planner.fill(new ArrayList<>(replan.values()));
+            if (!planned.isEmpty()) {
+                log.info("Planned {} rejected positions again, {} candidates left", planned.size(), planner.remaining());
+            }
+        }
+
+        log.info("Allocated {} workers, {} positions left open", created.size(), openPositions - created.size());
+        return new AllocationReportDTO(openPositions, created.size(), created, unfilled);
+    }
+}
@@ -0,0 +1,68 @@
+package com.wastewise.worker.management.service.serviceimpl;
+
+import com.wastewise.worker.management.dto.AssignmentHistoryDTO;
+import com.wastewise.worker.management.repository.AssignmentHistoryRepository;
+import com.wastewise.worker.management.service.AssignmentHistoryService;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Slf4j
+@Service
+@Timed(value = "wastewise.assignment-history.service", histogram = true)
+public class AssignmentHistoryServiceImpl implements AssignmentHistoryService {
+
+    private final AssignmentHistoryRepository assignmentHistoryRepository;
+
+    private final int maxPageSize;
+
+    public AssignmentHistoryServiceImpl(AssignmentHistoryRepository assignmentHistoryRepository,
+                                        @Value("${wastewise.assignment-history.max-page-size:10000}") int maxPageSize) {
+        this.assignmentHistoryRepository = assignmentHistoryRepository;
+        this.maxPageSize = maxPageSize;
+    }
+
+    /**
+     * Finding the assignment history of a worker, e.g. for payroll
+     * @param workerId id of the worker
+     * @param from first day of the range
+     * @param to day after the range
+     * @param afterId historyId of the last row of the previous page, 0 for the first page
+     * @param limit page size
+     * @return list of assignmentHistoryDTO in historyId order
+     */
+    @Transactional(readOnly = true)
+    public List<AssignmentHistoryDTO> findWorkerHistory(String workerId, LocalDate from, LocalDate to, long afterId, int limit) {
+        validateRange(from, to, limit);
+        return assignmentHistoryRepository.findByWorker(workerId, from.atStartOfDay(), to.atStartOfDay(), afterId, limit);
+    }
+
+    /**
+     * Finding the assignment history of a zone, e.g. for an audit
+     * @param zoneId id of the zone
+     * @param from first day of the range
+     * @param to day after the range
+     * @param afterId historyId of the last row of the previous page, 0 for the first page
+     * @param limit page size
+     * @return list of assignmentHistoryDTO in historyId order
+     */
+    @Transactional(readOnly = true)
+    public List<AssignmentHistoryDTO> findZoneHistory(String zoneId, LocalDate from, LocalDate to, long afterId, int limit) {
+        validateRange(from, to, limit);
+        return assignmentHistoryRepository.findByZone(zoneId, from.atStartOfDay(), to.atStartOfDay(), afterId, limit);
+    }
+
+    private void validateRange(LocalDate from, LocalDate to, int limit) {
+        if (!to.isAfter(from)) {
+            throw new IllegalArgumentException("to must be after from");
+        }
+        if (limit < 1 || limit > maxPageSize) {
+            throw new IllegalArgumentException("limit must be between 1 and " + maxPageSize);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.wastewise.worker.management.service.serviceimpl;
+
+import com.wastewise.worker.management.client.DownstreamCalls;
+import com.wastewise.worker.management.client.RouteServiceClient;
+import com.wastewise.worker.management.client.ZoneServiceClient;
+import com.wastewise.worker.management.config.CacheConfig;
+import com.wastewise.worker.management.dto.RouteDTO;
+import com.wastewise.worker.management.dto.ZoneDTO;
+import com.wastewise.worker.management.exception.ResourceNotFoundException;
+import com.wastewise.worker.management.service.ReferenceDataService;
+import feign.FeignException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+
+/**
+ * Zones and routes owned by the zone and route services, looked up over Feign and cached for a short time
+ * (wastewise.cache.zones.spec / routes.spec), so assignments to the same route do not call the route service again.
+ * Unknown ids are not cached.
+ */
+@Slf4j
+@Service
+public class ReferenceDataServiceImpl implements ReferenceDataService {
+
+    private final ZoneServiceClient zoneServiceClient;
+    private final RouteServiceClient routeServiceClient;
+    private final DownstreamCalls downstreamCalls;
+
+    public ReferenceDataServiceImpl(ZoneServiceClient zoneServiceClient, RouteServiceClient routeServiceClient,
+                                    DownstreamCalls downstreamCalls) {
+        this.zoneServiceClient = zoneServiceClient;
+        this.routeServiceClient = routeServiceClient;
+        this.downstreamCalls = downstreamCalls;
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.ZONES, key = "#zoneId")
+    public ZoneDTO getZone(String zoneId) {
+        log.info("Fetching zone {} from the zone service", zoneId);
+        return downstreamCalls.call(DownstreamCalls.ZONE_SERVICE, () -> {
+            try {
+                return zoneServiceClient.getZone(zoneId);
+            } catch (FeignException.NotFound e) {
+                throw new ResourceNotFoundException("Zone not found with ID: " + zoneId);
+            }
+        });
+    }
+
+    @Override
+    @Cacheable(cacheNames = CacheConfig.ROUTES, key = "#routeId")
+    public RouteDTO getRoute(String routeId) {
+        log.info("Fetching route {} from the route service", routeId);
+        return downstreamCalls.call(DownstreamCalls.ROUTE_SERVICE, () -> {
+            try {
+                return routeServiceClient.getRoute(routeId);
+            } catch (FeignException.NotFound e) {
+                throw new ResourceNotFoundException("Route not found with ID: " + routeId);
+            }
+        });
+    }
+}
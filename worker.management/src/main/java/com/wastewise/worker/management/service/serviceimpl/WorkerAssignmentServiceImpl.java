@@ -1,8 +1,14 @@
 package com.wastewise.worker.management.service.serviceimpl;
 
+import com.wastewise.worker.management.dto.AssignmentWorkerCountDTO;
+import com.wastewise.worker.management.dto.RouteDTO;
+import com.wastewise.worker.management.dto.WorkerAssignmentBatchReportDTO;
+import com.wastewise.worker.management.dto.WorkerAssignmentBatchResultDTO;
 import com.wastewise.worker.management.dto.WorkerAssignmentDTO;
 import com.wastewise.worker.management.enums.Shift;
 import com.wastewise.worker.management.enums.WorkerStatus;
+import com.wastewise.worker.management.event.AssignmentChangedEvent;
+import com.wastewise.worker.management.event.WorkerStatusChangedEvent;
 import com.wastewise.worker.management.exception.ResourceNotFoundException;
 import com.wastewise.worker.management.exception.WorkerNotFoundException;
 import com.wastewise.worker.management.exception.WorkersAlreadyAssignedException;
@@ -10,37 +16,143 @@ import com.wastewise.worker.management.mapper.WorkerAssignmentMapper;
 import com.wastewise.worker.management.model.Worker;
 import com.wastewise.worker.management.model.WorkerAssignment;
 import com.wastewise.worker.management.model.WorkerAssignmentId;
+import com.wastewise.worker.management.repository.AssignmentLockRepository;
 import com.wastewise.worker.management.repository.WorkerAssignmentRepository;
 import com.wastewise.worker.management.repository.WorkerRepository;
+import com.wastewise.worker.management.retry.RetryOnConflict;
+import com.wastewise.worker.management.security.Auditor;
+import com.wastewise.worker.management.service.ReferenceDataService;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
+@Timed(value = "wastewise.assignment.service", histogram = true)
+@Counted(value = "wastewise.assignment.service.failures", recordFailuresOnly = true)
 public class WorkerAssignmentServiceImpl implements com.wastewise.worker.management.service.WorkerAssignmentService {
+    private static final int MAX_WORKERS_PER_ASSIGNMENT = 2;
+    private static final int MAX_BATCH_SIZE = 1000;
+
     private final WorkerAssignmentRepository workerAssignmentRepository;
 
+    private final AssignmentLockRepository assignmentLockRepository;
+
     private final WorkerAssignmentMapper workerAssignmentMapper;
 
     private final WorkerRepository workerRepository;
 
-    public WorkerAssignmentServiceImpl(WorkerAssignmentRepository workerAssignmentRepository, WorkerRepository workerRepository, WorkerAssignmentMapper workerAssignmentMapper){
+    private final Validator validator;
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final Auditor auditor;
+
+    private final ReferenceDataService referenceDataService;
+
+    private final boolean validateRoutes;
+
+    public WorkerAssignmentServiceImpl(WorkerAssignmentRepository workerAssignmentRepository,
+                                       AssignmentLockRepository assignmentLockRepository, WorkerRepository workerRepository,
+                                       WorkerAssignmentMapper workerAssignmentMapper, Validator validator,
+                                       ApplicationEventPublisher eventPublisher, Auditor auditor,
+                                       ReferenceDataService referenceDataService,
+                                       @Value("${wastewise.assignment.validate-routes:false}") boolean validateRoutes){
         this.workerAssignmentRepository = workerAssignmentRepository;
+        this.assignmentLockRepository = assignmentLockRepository;
         this.workerRepository = workerRepository;
         this.workerAssignmentMapper = workerAssignmentMapper;
+        this.validator = validator;
+        this.eventPublisher = eventPublisher;
+        this.auditor = auditor;
+        this.referenceDataService = referenceDataService;
+        this.validateRoutes = validateRoutes;
     }
 
+    @Transactional(readOnly = true)
     public List<WorkerAssignmentDTO> findAllWorkerAssignments(){
-        return workerAssignmentRepository.findAll()
-                .stream()
-                .map(workerAssignmentMapper::toDTO)
-                .toList();
+        return workerAssignmentRepository.findAllAssignmentDTOs();
+    }
+
+    /**
+     * All the worker-assignments read from the primary, for the dispatch board snapshot: a change committed just
+     * before a board subscribes is neither in a lagging replica nor queued for the new board.
+     */
+    @Transactional
+    public List<WorkerAssignmentDTO> snapshotWorkerAssignments(){
+        return workerAssignmentRepository.findAllAssignmentDTOs();
+    }
+
+    /**
+     * Finding the workers assigned in a zone for a shift
+     * @param zoneId of the zone
+     * @param shift DAY or NIGHT
+     * @return list of workerAssignmentDTO ordered by assignmentId
+     */
+    @Transactional(readOnly = true)
+    public List<WorkerAssignmentDTO> findWorkersByZoneAndShift(String zoneId, Shift shift){
+        return workerAssignmentRepository.findByZoneAndShift(zoneId, shift);
+    }
+
+    /**
+     * Finding the assignments on a route
+     * @param routeId of the route
+     * @return list of workerAssignmentDTO ordered by assignmentId
+     */
+    @Transactional(readOnly = true)
+    public List<WorkerAssignmentDTO> findAssignmentsByRoute(String routeId){
+        return workerAssignmentRepository.findByRoute(routeId);
+    }
+
+    /**
+     * Passes the assignments matching the filters to the consumer one by one, using a single projection query
+     * @param zoneId zone to filter on, null for every zone
+     * @param routeId route to filter on, null for every route
+     * @param shift shift to filter on, null for both shifts
+     * @param consumer receives each workerAssignmentDTO
+     */
+    @Transactional(readOnly = true)
+    public void exportWorkerAssignments(String zoneId, String routeId, Shift shift, Consumer<WorkerAssignmentDTO> consumer){
+        log.info("Exporting worker assignments for zone {}, route {} and shift {}", zoneId, routeId, shift);
+        try (Stream<WorkerAssignmentDTO> assignments = workerAssignmentRepository.streamAssignments(zoneId, routeId, shift)) {
+            assignments.forEach(consumer);
+        }
+    }
+
+    /**
+     * Checks with the zone and route services that the zone exists and the route belongs to it, when
+     * wastewise.assignment.validate-routes is true. Not transactional: call it before assigning, so that no
+     * database connection is held while waiting for the other services. Both lookups are cached.
+     * @param zoneId zone of the assignment
+     * @param routeId route of the assignment
+     */
+    public void validateRoute(String zoneId, String routeId) {
+        if (!validateRoutes) {
+            return;
+        }
+        referenceDataService.getZone(zoneId);
+        RouteDTO route = referenceDataService.getRoute(routeId);
+        if (!zoneId.equals(route.getZoneId())) {
+            throw new IllegalArgumentException("Route " + routeId + " does not belong to zone " + zoneId);
+        }
     }
 
     /**
@@ -50,36 +162,146 @@ public class WorkerAssignmentServiceImpl implements com.wastewise.worker.managem
      * @return String message confirming the execution of the process
      */
     @Transactional
+    @RetryOnConflict
     public String assignWorkerToAssignment(String assignmentId, String workerId, WorkerAssignmentDTO dto){
-        // Step 1: Fetch the worker
-        if(workerAssignmentRepository.findByIdAssignmentId(assignmentId).size()>=2){
+        // held until commit, a concurrent assign to the same assignment counts after this one has inserted
+        assignmentLockRepository.lock(List.of(assignmentId));
+        if(workerAssignmentRepository.findByIdAssignmentId(assignmentId).size()>=MAX_WORKERS_PER_ASSIGNMENT){
             throw new WorkersAlreadyAssignedException("The assignment has already two workers assigned to it, please update the assignment instead of assigning any new worker");
         }
-        Worker worker = workerRepository.findById(workerId)
-                .orElseThrow(() -> new WorkerNotFoundException("Worker not found with ID: " + workerId));
-
-        if (worker.getWorkerStatus() != WorkerStatus.AVAILABLE) {
+        // Step 1: claim the worker, only succeeds while the worker is still AVAILABLE
+        LocalDateTime now = LocalDateTime.now();
+        String createdBy = auditor.currentWorkerId();
+        if (workerRepository.compareAndSetStatus(workerId, WorkerStatus.AVAILABLE, WorkerStatus.OCCUPIED, now, createdBy) == 0) {
+            if (!workerRepository.existsById(workerId)) {
+                throw new WorkerNotFoundException("Worker not found with ID: " + workerId);
+            }
             throw new WorkersAlreadyAssignedException("Worker is not available for assignment");
         }
 
         WorkerAssignment assignment = new WorkerAssignment();
         assignment.setId(new WorkerAssignmentId(assignmentId, workerId));
-        assignment.setWorker(worker);
-        assignment.setCreatedDate(LocalDateTime.now());
+        assignment.setWorker(workerRepository.getReferenceById(workerId));
+        assignment.setCreatedDate(now);
+        assignment.setCreatedBy(createdBy);
         assignment.setRouteId(dto.getRouteId());
         assignment.setZoneId(dto.getZoneId());
         Shift shift = Shift.valueOf(dto.getShift());
         assignment.setShift(shift);
 
-        workerAssignmentRepository.save(assignment);
-
-        worker.setWorkerStatus(WorkerStatus.OCCUPIED);
-        workerRepository.save(worker);
+        workerAssignmentRepository.insertAll(List.of(assignment));
+        eventPublisher.publishEvent(new WorkerStatusChangedEvent(workerId, null, WorkerStatus.AVAILABLE, WorkerStatus.OCCUPIED));
+        eventPublisher.publishEvent(AssignmentChangedEvent.added(assignmentId, workerId, dto.getZoneId(), dto.getRouteId(), shift));
 
         log.info("Assigned worker {} to assignment {}", workerId, assignmentId);
         return "Worker assigned successfully";
     }
 
+    /**
+     * Assigns many workers to assignments at once, e.g. a whole shift at its start. The assignments and workers are
+     * locked, worker availability and the two-workers-per-assignment cap are checked for the whole batch with one
+     * query each, then every assignment is inserted in JDBC batches and all the workers are marked OCCUPIED with a
+     * single update.
+     * Tuples that fail a check are reported and skipped, the others are still assigned.
+     *
+     * @param dtos list of workerAssignmentDTO(assignmentId, workerId, routeId, zoneId, shift)
+     * @return report with the outcome of every tuple
+     */
+    @Transactional
+    @RetryOnConflict
+    public WorkerAssignmentBatchReportDTO assignWorkersInBatch(List<WorkerAssignmentDTO> dtos){
+        if (dtos.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " assignments can be made in one request");
+        }
+        log.info("Assigning {} workers in batch", dtos.size());
+        WorkerAssignmentBatchResultDTO[] results = new WorkerAssignmentBatchResultDTO[dtos.size()];
+
+        List<Integer> candidates = new ArrayList<>();
+        Set<String> workerIds = new LinkedHashSet<>();
+        Set<String> assignmentIds = new HashSet<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            WorkerAssignmentDTO dto = dtos.get(i);
+            Set<ConstraintViolation<WorkerAssignmentDTO>> violations = validator.validate(dto);
+            if (violations.isEmpty()) {
+                candidates.add(i);
+                workerIds.add(dto.getWorkerId());
+                assignmentIds.add(dto.getAssignmentId());
+            } else {
+                results[i] = rejected(i, dto, violations.stream()
+                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+            }
+        }
+
+        // Step 1: lock the assignments, then the workers, and count the existing assignments. The assignment locks
+        // come first in every writer and keep concurrent assigns from passing the cap on counts read here
+        Map<String, Worker> workers = new HashMap<>();
+        Map<String, Long> workerCounts = new HashMap<>();
+        if (!candidates.isEmpty()) {
+            assignmentLockRepository.lock(assignmentIds);
+            for (Worker worker : workerRepository.findAllByIdForUpdate(workerIds)) {
+                workers.put(worker.getWorkerId(), worker);
+            }
+            for (AssignmentWorkerCountDTO count : workerAssignmentRepository.countWorkersByAssignmentIds(assignmentIds)) {
+                workerCounts.put(count.getAssignmentId(), count.getWorkerCount());
+            }
+        }
+
+        // Step 2: check every tuple, counting the workers accepted earlier in the same batch
+        Set<String> takenWorkerIds = new HashSet<>();
+        List<WorkerAssignment> assignments = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        String createdBy = auditor.currentWorkerId();
+        for (int i : candidates) {
+            WorkerAssignmentDTO dto = dtos.get(i);
+            Worker worker = workers.get(dto.getWorkerId());
+            long assigned = workerCounts.getOrDefault(dto.getAssignmentId(), 0L);
+            if (worker == null) {
+                results[i] = rejected(i, dto, "Worker not found with ID: " + dto.getWorkerId());
+            } else if (worker.getWorkerStatus() != WorkerStatus.AVAILABLE || takenWorkerIds.contains(dto.getWorkerId())) {
+                results[i] = rejected(i, dto, "Worker is not available for assignment");
+            } else if (assigned >= MAX_WORKERS_PER_ASSIGNMENT) {
+                results[i] = rejected(i, dto, "The assignment has already two workers assigned to it");
+            } else {
+                WorkerAssignment assignment = new WorkerAssignment();
+                assignment.setId(new WorkerAssignmentId(dto.getAssignmentId(), dto.getWorkerId()));
+                assignment.setWorker(worker);
+                assignment.setCreatedDate(now);
+                assignment.setCreatedBy(createdBy);
+                assignment.setRouteId(dto.getRouteId());
+                assignment.setZoneId(dto.getZoneId());
+                assignment.setShift(Shift.valueOf(dto.getShift()));
+                assignments.add(assignment);
+
+                takenWorkerIds.add(dto.getWorkerId());
+                workerCounts.put(dto.getAssignmentId(), assigned + 1);
+                results[i] = new WorkerAssignmentBatchResultDTO(i + 1, dto.getAssignmentId(), dto.getWorkerId(), true, "Worker assigned successfully");
+            }
+        }
+
+        // Step 3: batched inserts and one status update for all the assigned workers
+        if (!assignments.isEmpty()) {
+            workerAssignmentRepository.insertAll(assignments);
+            workerRepository.updateStatus(takenWorkerIds, WorkerStatus.OCCUPIED, now, createdBy);
+            for (String workerId : takenWorkerIds) {
+                eventPublisher.publishEvent(new WorkerStatusChangedEvent(workerId, workers.get(workerId).getRoleId(),
+                        WorkerStatus.AVAILABLE, WorkerStatus.OCCUPIED));
+            }
+            for (WorkerAssignment assignment : assignments) {
+                eventPublisher.publishEvent(AssignmentChangedEvent.added(assignment.getId().getAssignmentId(),
+                        assignment.getId().getWorkerId(), assignment.getZoneId(), assignment.getRouteId(), assignment.getShift()));
+            }
+        }
+
+        log.info("Batch assignment finished, {} assigned and {} rejected", assignments.size(), dtos.size() - assignments.size());
+        return new WorkerAssignmentBatchReportDTO(dtos.size(), assignments.size(), dtos.size() - assignments.size(), List.of(results));
+    }
+
+    private WorkerAssignmentBatchResultDTO rejected(int index, WorkerAssignmentDTO dto, String message) {
+        return new WorkerAssignmentBatchResultDTO(index + 1, dto.getAssignmentId(), dto.getWorkerId(), false, message);
+    }
+
     /**
      * Updating an assignment by changing assigned worker to the assignment. Also updates their status
      * @param assignmentId of assignment
@@ -88,43 +310,30 @@ public class WorkerAssignmentServiceImpl implements com.wastewise.worker.managem
      */
 
     @Transactional
+    @RetryOnConflict
     public String updateSingleWorkerAssignment(String assignmentId, String oldWorkerId, String newWorkerId) {
-        WorkerAssignmentId oldId = new WorkerAssignmentId(assignmentId, oldWorkerId);
-        WorkerAssignmentId newId = new WorkerAssignmentId(assignmentId, newWorkerId);
+        LocalDateTime now = LocalDateTime.now();
+        String updatedBy = auditor.currentWorkerId();
 
-        if (!workerAssignmentRepository.existsById(oldId)) {
-            throw new ResourceNotFoundException("Old worker is not assigned to this assignment");
+        // Claim the new worker first, the status guard makes the swap safe against concurrent assigns
+        if (workerRepository.compareAndSetStatus(newWorkerId, WorkerStatus.AVAILABLE, WorkerStatus.OCCUPIED, now, updatedBy) == 0) {
+            if (workerAssignmentRepository.existsById(new WorkerAssignmentId(assignmentId, newWorkerId))) {
+                throw new IllegalStateException("New worker is already assigned to this assignment");
+            }
+            if (!workerRepository.existsById(newWorkerId)) {
+                throw new WorkerNotFoundException("New worker not found");
+            }
+            throw new IllegalStateException("Worker is not available");
         }
-        if (workerAssignmentRepository.existsById(newId)) {
-            throw new IllegalStateException("New worker is already assigned to this assignment");
+        // Any exception from here on rolls the claim back
+        if (workerAssignmentRepository.reassignWorker(assignmentId, oldWorkerId, newWorkerId, updatedBy, now) == 0) {
+            throw new ResourceNotFoundException("Old worker is not assigned to this assignment");
         }
-        Worker newWorker = workerRepository.findById(newWorkerId)
-                .orElseThrow(() -> new WorkerNotFoundException("New worker not found"));
+        workerRepository.updateStatus(List.of(oldWorkerId), WorkerStatus.AVAILABLE, now, updatedBy);
 
-        if (newWorker.getWorkerStatus() != WorkerStatus.AVAILABLE) {
-            throw new IllegalStateException("Worker is not available");
-        }
-        WorkerAssignment oldWorkerAssignment =  workerAssignmentRepository.findById(oldId)
-                .orElseThrow(() -> new ResourceNotFoundException("Worker assignment does not exist"));
-        workerAssignmentRepository.deleteById(oldId);
-        WorkerAssignment newAssignment = new WorkerAssignment();
-        newAssignment.setWorker(newWorker);
-        newAssignment.setId(newId);
-        newAssignment.setCreatedDate(LocalDateTime.now());
-        newAssignment.setZoneId(oldWorkerAssignment.getZoneId());
-        newAssignment.setRouteId(oldWorkerAssignment.getRouteId());
-        newAssignment.setCreatedDate(oldWorkerAssignment.getCreatedDate());
-        newAssignment.setCreatedBy(oldWorkerAssignment.getCreatedBy());
-        newAssignment.setShift(oldWorkerAssignment.getShift());
-        newAssignment.setUpdatedDate(LocalDateTime.now());
-        workerAssignmentRepository.save(newAssignment);
-
-        Worker oldWorker = workerRepository.findById(oldWorkerId)
-                .orElseThrow(() -> new WorkerNotFoundException("Old worker not found"));
-
-        oldWorker.setWorkerStatus(WorkerStatus.AVAILABLE);
-        newWorker.setWorkerStatus(WorkerStatus.OCCUPIED);
-        workerRepository.saveAll(List.of(oldWorker, newWorker));
+        eventPublisher.publishEvent(new WorkerStatusChangedEvent(oldWorkerId, null, WorkerStatus.OCCUPIED, WorkerStatus.AVAILABLE));
+        eventPublisher.publishEvent(new WorkerStatusChangedEvent(newWorkerId, null, WorkerStatus.AVAILABLE, WorkerStatus.OCCUPIED));
+        eventPublisher.publishEvent(AssignmentChangedEvent.replaced(assignmentId, oldWorkerId, newWorkerId));
 
         return "Worker assignment updated successfully";
     }
@@ -139,73 +348,45 @@ public class WorkerAssignmentServiceImpl implements com.wastewise.worker.managem
      * @return String message confirming the completion of method
      */
     @Transactional
+    @RetryOnConflict
     public String updateBothWorkerAssignments(String assignmentId,
                                               String oldWorkerId1, String oldWorkerId2,
                                               String newWorkerId1, String newWorkerId2) {
-        List<WorkerAssignmentId> oldIds = List.of(
-                new WorkerAssignmentId(assignmentId, oldWorkerId1),
-                new WorkerAssignmentId(assignmentId, oldWorkerId2)
-        );
-
-        // Step 1: Fetch old assignments
-        List<WorkerAssignment> oldAssignments = workerAssignmentRepository.findAllById(oldIds);
-        if (oldAssignments.size() != 2) {
-            throw new ResourceNotFoundException("One or both old assignments not found");
-        }
-
-        // Step 2: Fetch new workers
+        LocalDateTime now = LocalDateTime.now();
+        String updatedBy = auditor.currentWorkerId();
         List<String> newWorkerIds = List.of(newWorkerId1, newWorkerId2);
-        List<Worker> newWorkers = workerRepository.findAllById(newWorkerIds);
 
-        if (newWorkers.size() != 2) {
-            throw new WorkerNotFoundException("One or both new workers not found");
-        }
-
-        for (Worker w : newWorkers) {
-            if (w.getWorkerStatus() != WorkerStatus.AVAILABLE) {
-                throw new IllegalStateException("Worker " + w.getWorkerId() + " is not available");
+        // Step 1: Claim both new workers in one statement
+        if (workerRepository.compareAndSetStatuses(newWorkerIds, WorkerStatus.AVAILABLE, WorkerStatus.OCCUPIED, now, updatedBy) != 2) {
+            List<Worker> newWorkers = workerRepository.findAllById(newWorkerIds);
+            if (newWorkers.size() != 2) {
+                throw new WorkerNotFoundException("One or both new workers not found");
             }
+            Worker unavailable = newWorkers.stream()
+                    .filter(w -> w.getWorkerStatus() != WorkerStatus.AVAILABLE)
+                    .findFirst()
+                    .orElse(newWorkers.get(0));
+            throw new IllegalStateException("Worker " + unavailable.getWorkerId() + " is not available");
         }
 
-        // Delete old assignments
-        workerAssignmentRepository.deleteAllById(oldIds);
-
-        // Create new assignments with old values
-        List<WorkerAssignment> newAssignments = new ArrayList<>();
-        for (int i = 0; i < 2; i++) {
-            WorkerAssignment oldAssignment = oldAssignments.get(i);
-            String newWorkerId = newWorkerIds.get(i);
-            Worker newWorker = newWorkers.get(i);
-
-            WorkerAssignment newAssignment = new WorkerAssignment();
-            newAssignment.setId(new WorkerAssignmentId(assignmentId, newWorkerId));
-            newAssignment.setWorker(newWorker);
-            newAssignment.setRouteId(oldAssignment.getRouteId());
-            newAssignment.setZoneId(oldAssignment.getZoneId());
-            newAssignment.setShift(oldAssignment.getShift());
-            newAssignment.setCreatedBy(oldAssignment.getCreatedBy());
-            newAssignment.setCreatedDate(oldAssignment.getCreatedDate());
-            newAssignment.setUpdatedBy("000"); // To be modified from workerId of whoever is updating
-            newAssignment.setUpdatedDate(LocalDateTime.now());
-
-            newAssignments.add(newAssignment);
+        // Step 2: Move both assignment rows to the new workers, rolls the claim back when an old worker is missing
+        if (workerAssignmentRepository.reassignBothWorkers(assignmentId, oldWorkerId1, oldWorkerId2,
+                newWorkerId1, newWorkerId2, updatedBy, now) != 2) {
+            throw new ResourceNotFoundException("One or both old assignments not found");
         }
 
-        workerAssignmentRepository.saveAll(newAssignments);
-
-        // Step 5: Update worker statuses
+        // Step 3: Release the old workers
         List<String> oldWorkerIds = List.of(oldWorkerId1, oldWorkerId2);
-        List<Worker> oldWorkers = workerRepository.findAllById(oldWorkerIds);
+        workerRepository.updateStatus(oldWorkerIds, WorkerStatus.AVAILABLE, now, updatedBy);
 
-        for (Worker w : oldWorkers) {
-            w.setWorkerStatus(WorkerStatus.AVAILABLE);
+        for (String workerId : oldWorkerIds) {
+            eventPublisher.publishEvent(new WorkerStatusChangedEvent(workerId, null, WorkerStatus.OCCUPIED, WorkerStatus.AVAILABLE));
         }
-        for (Worker w : newWorkers) {
-            w.setWorkerStatus(WorkerStatus.OCCUPIED);
+        for (String workerId : newWorkerIds) {
+            eventPublisher.publishEvent(new WorkerStatusChangedEvent(workerId, null, WorkerStatus.AVAILABLE, WorkerStatus.OCCUPIED));
         }
-
-        workerRepository.saveAll(oldWorkers);
-        workerRepository.saveAll(newWorkers);
+        eventPublisher.publishEvent(AssignmentChangedEvent.replaced(assignmentId, oldWorkerId1, newWorkerId1));
+        eventPublisher.publishEvent(AssignmentChangedEvent.replaced(assignmentId, oldWorkerId2, newWorkerId2));
 
         log.info("Reassigned assignment {} from workers {} and {} to {} and {}",
                 assignmentId, oldWorkerId1, oldWorkerId2, newWorkerId1, newWorkerId2);
@@ -221,6 +402,7 @@ public class WorkerAssignmentServiceImpl implements com.wastewise.worker.managem
      * @return String message indicating the successful deletion of tuple and changing of status of workers
      */
     @Transactional
+    @RetryOnConflict
     public String deleteWorkerAssignment(String assignmentId) {
         List<WorkerAssignment> assignments = workerAssignmentRepository.findByIdAssignmentId(assignmentId);
 
@@ -235,14 +417,31 @@ public class WorkerAssignmentServiceImpl implements com.wastewise.worker.managem
 
         workerAssignmentRepository.deleteAll(assignments);
         log.info("Deleted all assignments with assignmentId {}", assignmentId);
+        for (WorkerAssignment assignment : assignments) {
+            eventPublisher.publishEvent(AssignmentChangedEvent.deleted(assignmentId, assignment.getId().getWorkerId(),
+                    assignment.getZoneId(), assignment.getRouteId(), assignment.getShift()));
+        }
 
         List<Worker> workers = workerRepository.findAllById(workerIds);
+        LocalDateTime now = LocalDateTime.now();
+        String updatedBy = auditor.currentWorkerId();
         for (Worker worker : workers) {
+            WorkerStatus previousStatus = worker.getWorkerStatus();
             worker.setWorkerStatus(WorkerStatus.AVAILABLE);
+            worker.setUpdatedDate(now);
+            worker.setUpdatedBy(updatedBy);
+            publishStatusChange(worker, previousStatus);
         }
         workerRepository.saveAll(workers);
         log.info("Updated {} workers to status OCCUPIED", workers.size());
 
         return "Deleted assignments and updated worker statuses";
     }
-}
\ No newline at end of file
+
+    private void publishStatusChange(Worker worker, WorkerStatus previousStatus) {
+        if (previousStatus != worker.getWorkerStatus()) {
+            eventPublisher.publishEvent(new WorkerStatusChangedEvent(worker.getWorkerId(), worker.getRoleId(),
+                    previousStatus, worker.getWorkerStatus()));
+        }
+    }
+}
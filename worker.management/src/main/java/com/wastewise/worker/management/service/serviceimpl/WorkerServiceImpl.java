@@ -1,37 +1,95 @@
 package com.wastewise.worker.management.service.serviceimpl;
 
+import com.wastewise.worker.management.dto.WorkerBulkReportDTO;
+import com.wastewise.worker.management.dto.WorkerBulkResultDTO;
+import com.wastewise.worker.management.dto.WorkerContactDTO;
 import com.wastewise.worker.management.dto.WorkerCreateDTO;
 import com.wastewise.worker.management.dto.WorkerDTO;
+import com.wastewise.worker.management.dto.WorkerPageDTO;
 import com.wastewise.worker.management.dto.WorkerUpdateDTO;
+import com.wastewise.worker.management.cache.AvailableWorkerIndex;
+import com.wastewise.worker.management.cache.UsedContactFilter;
+import com.wastewise.worker.management.config.CacheConfig;
 import com.wastewise.worker.management.enums.WorkerStatus;
+import com.wastewise.worker.management.event.WorkerStatusChangedEvent;
 import com.wastewise.worker.management.exception.ContactInformationUsedException;
 import com.wastewise.worker.management.exception.WorkerNotFoundException;
+import com.wastewise.worker.management.generator.WorkerIdGenerator;
 import com.wastewise.worker.management.mapper.WorkerMapper;
 import com.wastewise.worker.management.model.Worker;
 import com.wastewise.worker.management.repository.WorkerRepository;
+import com.wastewise.worker.management.retry.RetryOnConflict;
+import com.wastewise.worker.management.security.Auditor;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
+@Timed(value = "wastewise.worker.service", histogram = true)
+@Counted(value = "wastewise.worker.service.failures", recordFailuresOnly = true)
 public class WorkerServiceImpl implements com.wastewise.worker.management.service.WorkerService {
 
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_BULK_SIZE = 5000;
+    private static final String NUMBER_USED_MESSAGE = "The given contact number is already being used, please enter a different number";
+    private static final String EMAIL_USED_MESSAGE = "The given contact email is already being used, please enter a different email";
+
     private final WorkerRepository workerRepository;
     private final WorkerMapper workerMapper;
+    private final WorkerIdGenerator workerIdGenerator;
+    private final Validator validator;
+    private final AvailableWorkerIndex availableWorkerIndex;
+    private final UsedContactFilter usedContactFilter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Auditor auditor;
+    private final TransactionTemplate transactionTemplate;
 
     public WorkerServiceImpl(WorkerRepository workerRepository,
-                             WorkerMapper workerMapper) {
+                             WorkerMapper workerMapper,
+                             WorkerIdGenerator workerIdGenerator,
+                             Validator validator,
+                             AvailableWorkerIndex availableWorkerIndex,
+                             UsedContactFilter usedContactFilter,
+                             ApplicationEventPublisher eventPublisher,
+                             Auditor auditor,
+                             PlatformTransactionManager transactionManager) {
         this.workerRepository = workerRepository;
         this.workerMapper = workerMapper;
+        this.workerIdGenerator = workerIdGenerator;
+        this.validator = validator;
+        this.availableWorkerIndex = availableWorkerIndex;
+        this.usedContactFilter = usedContactFilter;
+        this.eventPublisher = eventPublisher;
+        this.auditor = auditor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     public String generateWorkerId() {
-        long count = workerRepository.countAll();
-        return String.format("W%03d", count + 1);
+        return workerIdGenerator.nextId();
     }
 
     /**
@@ -42,43 +100,183 @@ public class WorkerServiceImpl implements com.wastewise.worker.management.servic
      */
     @Transactional
     public String createWorker(WorkerCreateDTO dto) {
+        checkContactsUnused(dto.getContactNumber(), dto.getContactEmail(), null,
+                NUMBER_USED_MESSAGE, EMAIL_USED_MESSAGE);
         String id = generateWorkerId();
 
         log.info("Creating new worker: {}", id);
-        if(workerRepository.existsByContactNumber(dto.getContactNumber())){
-            throw new ContactInformationUsedException("The given contact number is already being used, please enter a different number");
-        }
-        if(dto.getContactEmail() != null && workerRepository.existsByContactEmail(dto.getContactEmail())){
-            throw new ContactInformationUsedException("The given contact email is already being used, please enter a different email");
-        }
 
         Worker worker = workerMapper.toEntity(dto);
         WorkerStatus status = WorkerStatus.valueOf(dto.getWorkerStatus());
         worker.setWorkerStatus(status);
         worker.setWorkerId(id);
         worker.setCreatedDate(LocalDateTime.now());
-        worker.setCreatedBy("000"); //To be updated using workerId in token
-        workerRepository.save(worker);
+        worker.setCreatedBy(auditor.currentWorkerId());
+        try {
+            workerRepository.saveAndFlush(worker);
+        } catch (DataIntegrityViolationException e) {
+            throw translateContactViolation(e);
+        }
+        usedContactFilter.add(worker.getContactNumber(), worker.getContactEmail());
+        eventPublisher.publishEvent(new WorkerStatusChangedEvent(id, worker.getRoleId(), null, status));
         return "Created worker with id " + worker.getWorkerId();
     }
 
     /**
-     * fetching the list of all workers
-     * @return list of workerDTO (id, name, contactNumber, contactEmail, roleId, status)
+     * Creates many workers at once. Every row is validated on its own, contact details are checked against the
+     * database for the whole batch in one query, ids are reserved as one block and the accepted workers are
+     * inserted with JDBC batching. Rejected rows do not stop the other rows from being created.
+     * When a concurrent request takes one of the contacts between the check and the insert, the batch is rolled
+     * back and run once more with every contact checked against the database, so only the rows that lost the race
+     * are rejected.
+     *
+     * @param dtos list of workerCreateDTO(name, contactNumber, contactEmail, roleId, Status)
+     * @return report with the outcome of every row
+     */
+    public WorkerBulkReportDTO createWorkers(List<WorkerCreateDTO> dtos) {
+        if (dtos.size() > MAX_BULK_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BULK_SIZE + " workers can be created in one request");
+        }
+        log.info("Creating {} workers in bulk", dtos.size());
+        try {
+            return transactionTemplate.execute(status -> createBatch(dtos, false));
+        } catch (ContactInformationUsedException e) {
+            // the contact may have been written by another instance, whose contacts this bloom filter does not know
+            log.info("A contact was taken while the batch was created, retrying with every contact checked");
+            return transactionTemplate.execute(status -> createBatch(dtos, true));
+        }
+    }
+
+    private WorkerBulkReportDTO createBatch(List<WorkerCreateDTO> dtos, boolean checkEveryContact) {
+        WorkerBulkResultDTO[] results = new WorkerBulkResultDTO[dtos.size()];
+
+        // Step 1: validate each row and reject contact details repeated inside the batch
+        List<Integer> candidates = new ArrayList<>();
+        Set<String> batchNumbers = new HashSet<>();
+        Set<String> batchEmails = new HashSet<>();
+        for (int i = 0; i < dtos.size(); i++) {
+            WorkerCreateDTO dto = dtos.get(i);
+            Set<ConstraintViolation<WorkerCreateDTO>> violations = validator.validate(dto);
+            if (!violations.isEmpty()) {
+                results[i] = rejected(i, violations.stream()
+                        .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                        .sorted()
+                        .collect(Collectors.joining("; ")));
+            } else if (!batchNumbers.add(dto.getContactNumber())) {
+                results[i] = rejected(i, "The given contact number is repeated in this batch");
+            } else if (dto.getContactEmail() != null && !batchEmails.add(dto.getContactEmail())) {
+                results[i] = rejected(i, "The given contact email is repeated in this batch");
+            } else {
+                candidates.add(i);
+            }
+        }
+
+        // Step 2: one set-based query for the contact details the bloom filter cannot rule out
+        Set<String> checkNumbers = new HashSet<>();
+        Set<String> checkEmails = new HashSet<>();
+        for (int i : candidates) {
+            WorkerCreateDTO dto = dtos.get(i);
+            if (checkEveryContact || usedContactFilter.mightBeUsed(dto.getContactNumber(), dto.getContactEmail())) {
+                checkNumbers.add(dto.getContactNumber());
+                if (dto.getContactEmail() != null) {
+                    checkEmails.add(dto.getContactEmail());
+                }
+            }
+        }
+        Set<String> usedNumbers = new HashSet<>();
+        Set<String> usedEmails = new HashSet<>();
+        if (!checkNumbers.isEmpty()) {
+            // an empty IN list is not valid SQL, a blank email can never match a stored one
+            Set<String> emails = checkEmails.isEmpty() ? Set.of("") : checkEmails;
+            for (WorkerContactDTO used : workerRepository.findUsedContacts(checkNumbers, emails)) {
+                usedNumbers.add(used.getContactNumber());
+                usedEmails.add(used.getContactEmail());
+            }
+        }
+        for (Iterator<Integer> it = candidates.iterator(); it.hasNext(); ) {
+            int i = it.next();
+            WorkerCreateDTO dto = dtos.get(i);
+            if (usedNumbers.contains(dto.getContactNumber())) {
+                results[i] = rejected(i, NUMBER_USED_MESSAGE);
+                it.remove();
+            } else if (dto.getContactEmail() != null && usedEmails.contains(dto.getContactEmail())) {
+                results[i] = rejected(i, EMAIL_USED_MESSAGE);
+                it.remove();
+            }
+        }
+
+        // Step 3: reserve the ids as one block and insert the accepted workers in JDBC batches
+        List<String> ids = candidates.isEmpty() ? List.of() : workerIdGenerator.nextIds(candidates.size());
+        List<Worker> workers = new ArrayList<>(candidates.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (int c = 0; c < candidates.size(); c++) {
+            int i = candidates.get(c);
+            WorkerCreateDTO dto = dtos.get(i);
+            Worker worker = workerMapper.toEntity(dto);
+            worker.setWorkerStatus(WorkerStatus.valueOf(dto.getWorkerStatus()));
+            worker.setWorkerId(ids.get(c));
+            worker.setCreatedDate(now);
+            worker.setCreatedBy(auditor.currentWorkerId());
+            workers.add(worker);
+            results[i] = new WorkerBulkResultDTO(i + 1, worker.getWorkerId(), true, "Created worker with id " + worker.getWorkerId());
+        }
+        try {
+            workerRepository.insertAll(workers);
+        } catch (DataIntegrityViolationException e) {
+            // a concurrent request took one of the contacts after the check, createWorkers runs the batch again
+            throw translateContactViolation(e);
+        }
+        for (Worker worker : workers) {
+            usedContactFilter.add(worker.getContactNumber(), worker.getContactEmail());
+            eventPublisher.publishEvent(new WorkerStatusChangedEvent(worker.getWorkerId(), worker.getRoleId(), null, worker.getWorkerStatus()));
+        }
+
+        log.info("Bulk creation finished, {} created and {} rejected", workers.size(), dtos.size() - workers.size());
+        return new WorkerBulkReportDTO(dtos.size(), workers.size(), dtos.size() - workers.size(), List.of(results));
+    }
+
+    private WorkerBulkResultDTO rejected(int index, String message) {
+        return new WorkerBulkResultDTO(index + 1, null, false, message);
+    }
+
+    /**
+     * fetching one page of workers ordered by workerId (keyset pagination)
+     * @param afterWorkerId workerId of the last worker of the previous page, null for the first page
+     * @param limit maximum number of workers in the page, capped at MAX_PAGE_SIZE
+     * @return page of workerDTO (id, name, contactNumber, contactEmail, status) and the cursor of the next page
      */
-    public List<WorkerDTO> getAllWorkers(){
-        log.info("Fetching all the workers' information");
-        return workerRepository.findAll()
-                .stream()
-                .map(workerMapper::toDTO)
-                .toList();
+    @Transactional(readOnly = true)
+    public WorkerPageDTO getAllWorkers(String afterWorkerId, int limit){
+        int pageSize = Math.clamp(limit, 1, MAX_PAGE_SIZE);
+        log.info("Fetching {} workers after cursor {}", pageSize, afterWorkerId);
+        List<WorkerDTO> workers = workerRepository.findWorkerPageAfter(
+                afterWorkerId == null ? "" : afterWorkerId, Limit.of(pageSize));
+        String nextCursor = workers.size() < pageSize ? null : workers.getLast().getWorkerId();
+        return new WorkerPageDTO(workers, nextCursor);
+    }
+
+    /**
+     * passing every worker to the consumer one by one, without loading the whole table into memory
+     * @param consumer receives each workerDTO in workerId order
+     */
+    @Transactional(readOnly = true)
+    public void streamAllWorkers(Consumer<WorkerDTO> consumer){
+        log.info("Streaming all the workers' information");
+        try (Stream<WorkerDTO> workers = workerRepository.streamAllWorkers()) {
+            workers.forEach(consumer);
+        }
     }
 
     /**
      * Retrieves a worker by ID.
      *
+     * Not read-only so a cache miss reads the primary: a lagging replica row loaded right after an update's
+     * eviction would otherwise be served until the entry expires.
+     *
      * @return workerDTO object that is consist of worker id, name, contact details, status and roleId
      */
+    @Transactional
+    @Cacheable(cacheNames = CacheConfig.WORKERS, key = "#id")
     public WorkerDTO getWorker(String id) throws WorkerNotFoundException {
         Worker worker = workerRepository.findById(id)
                 .orElseThrow(() -> new WorkerNotFoundException("Worker with id " + id + " does not exist"));
@@ -89,21 +287,27 @@ public class WorkerServiceImpl implements com.wastewise.worker.management.servic
     /**
      * Retrieves all worker IDs.
      *
+     * Reads the primary like getWorker, the list is cached until the next worker is created.
+     *
      * @return list of all worker Ids
      */
+    @Transactional
+    @Cacheable(cacheNames = CacheConfig.WORKER_IDS)
     public List<String> getWorkerIds() {
         log.info("fetching all the worker Ids");
         return workerRepository.findAllWorkerId();
     }
 
     /**
-     * Retrieves all available worker IDs (based on status).
+     * Retrieves the available worker IDs of a role from the in-memory index.
      *
-     * @return list of all workers with status = "Available"
+     * @param roleId role of the workers
+     * @return list of the workers of the role with status = "Available"
      */
-    public List<String> getAllAvailableWorkerIds() {
-        log.info("fetching all the worker Ids with status 'AVAILABLE'");
-        return workerRepository.findWorkerIdAvailableStatus();
+    @Transactional(readOnly = true)
+    public List<String> getAllAvailableWorkerIds(String roleId) {
+        log.info("fetching all the worker Ids with status 'AVAILABLE' and role {}", roleId);
+        return availableWorkerIndex.getAvailableWorkerIds(roleId);
     }
 
     /**
@@ -112,24 +316,37 @@ public class WorkerServiceImpl implements com.wastewise.worker.management.servic
      * @return dto of WorkerUpdateDTO
      */
     @Transactional
+    @RetryOnConflict
+    @CacheEvict(cacheNames = CacheConfig.WORKERS, key = "#id")
     public String updateWorker(String id, WorkerUpdateDTO dto) {
         log.info("fetching worker with id {} to update", id);
         Worker worker = workerRepository.findById(id)
                 .orElseThrow(() -> new WorkerNotFoundException("Worker with id " + id + " does not exist"));
-        if(workerRepository.existsByContactNumberAndWorkerIdNot(dto.getContactNumber(), id)){
-            throw new ContactInformationUsedException("Contact number already being used by another worker");
-        }
-        if(workerRepository.existsByContactEmailAndWorkerIdNot(dto.getContactEmail(),id)){
-            throw new ContactInformationUsedException("Contact email is already being used by another worker");
+        // the unique constraints guarantee nobody else holds the worker's current contacts
+        if (!Objects.equals(dto.getContactNumber(), worker.getContactNumber())
+                || !Objects.equals(dto.getContactEmail(), worker.getContactEmail())) {
+            checkContactsUnused(dto.getContactNumber(), dto.getContactEmail(), id,
+                    "Contact number already being used by another worker",
+                    "Contact email is already being used by another worker");
         }
 
         log.info("updating details of the worker with id {}",id);
+        WorkerStatus previousStatus = worker.getWorkerStatus();
+        String previousRoleId = worker.getRoleId();
         workerMapper.updateWorkerFromDTO(dto, worker);
         WorkerStatus status = WorkerStatus.valueOf(dto.getWorkerStatus());
         worker.setWorkerStatus(status);
         worker.setUpdatedDate(LocalDateTime.now());
-        worker.setUpdatedBy("000"); //To be updated via workerId in JWT token
-        workerRepository.save(worker);
+        worker.setUpdatedBy(auditor.currentWorkerId());
+        try {
+            workerRepository.saveAndFlush(worker);
+        } catch (DataIntegrityViolationException e) {
+            throw translateContactViolation(e);
+        }
+        usedContactFilter.add(worker.getContactNumber(), worker.getContactEmail());
+        if (previousStatus != status || !Objects.equals(previousRoleId, worker.getRoleId())) {
+            eventPublisher.publishEvent(new WorkerStatusChangedEvent(id, worker.getRoleId(), previousStatus, status));
+        }
         return "Updated worker with id "+worker.getWorkerId();
     }
 
@@ -140,14 +357,55 @@ public class WorkerServiceImpl implements com.wastewise.worker.management.servic
      * @return String message confirming the changing of status
      */
     @Transactional
+    @RetryOnConflict
     public String changeWorkerStatus(String id, WorkerStatus workerStatus){
         log.info("fetching the worker with id {} to update status", id);
         Worker worker = workerRepository.findById(id)
                 .orElseThrow(() -> new WorkerNotFoundException("Worker with id " + id + " does not exist"));
         log.info("Changing the status of worker to {}",workerStatus);
+        WorkerStatus previousStatus = worker.getWorkerStatus();
         worker.setWorkerStatus(workerStatus);
+        worker.setUpdatedDate(LocalDateTime.now());
+        worker.setUpdatedBy(auditor.currentWorkerId());
         workerRepository.save(worker);
+        if (previousStatus != workerStatus) {
+            eventPublisher.publishEvent(new WorkerStatusChangedEvent(id, worker.getRoleId(), previousStatus, workerStatus));
+        }
 
         return "Status of worker with id "+ id + " changed successfully";
     }
-}
\ No newline at end of file
+
+    /**
+     * Throws when another worker already uses the number or email. Contacts the bloom filter has never seen
+     * are accepted without a query, the rest are checked with one query on the unique indexes.
+     */
+    private void checkContactsUnused(String contactNumber, String contactEmail, String excludedWorkerId,
+                                     String numberUsedMessage, String emailUsedMessage) {
+        if (!usedContactFilter.mightBeUsed(contactNumber, contactEmail)) {
+            return;
+        }
+        List<WorkerContactDTO> conflicts = workerRepository.findContactConflicts(contactNumber, contactEmail, excludedWorkerId);
+        for (WorkerContactDTO conflict : conflicts) {
+            if (Objects.equals(contactNumber, conflict.getContactNumber())) {
+                throw new ContactInformationUsedException(numberUsedMessage);
+            }
+        }
+        if (!conflicts.isEmpty()) {
+            throw new ContactInformationUsedException(emailUsedMessage);
+        }
+    }
+
+    /**
+     * Turns a violation of a contact unique constraint into ContactInformationUsedException
+     */
+    private RuntimeException translateContactViolation(DataIntegrityViolationException e) {
+        String message = String.valueOf(e.getMostSpecificCause().getMessage()).toLowerCase(Locale.ROOT);
+        if (message.contains(Worker.UK_CONTACT_NUMBER)) {
+            return new ContactInformationUsedException(NUMBER_USED_MESSAGE);
+        }
+        if (message.contains(Worker.UK_CONTACT_EMAIL)) {
+            return new ContactInformationUsedException(EMAIL_USED_MESSAGE);
+        }
+        return e;
+    }
+}
@@ -0,0 +1,59 @@
+package com.wastewise.worker.management.util;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the rows of one INSERT statement while a transaction runs and inserts them in one JDBC batch right
+ * before it commits, so they are committed together with the change they record and a bulk operation costs one
+ * round trip instead of one insert per row. Outside a transaction every row is inserted at once.
+ */
+public class BeforeCommitBatchInsert {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final String sql;
+
+    public BeforeCommitBatchInsert(JdbcTemplate jdbcTemplate, String sql) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.sql = sql;
+    }
+
+    /**
+     * @param row parameters of the INSERT statement
+     */
+    public void add(Object[] row) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            jdbcTemplate.update(sql, row);
+            return;
+        }
+        PendingRows pending = (PendingRows) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingRows();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.rows.add(row);
+    }
+
+    /**
+     * Rows of the current transaction
+     */
+    private final class PendingRows implements TransactionSynchronization {
+
+        private final List<Object[]> rows = new ArrayList<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            jdbcTemplate.batchUpdate(sql, rows);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(BeforeCommitBatchInsert.this);
+        }
+    }
+}
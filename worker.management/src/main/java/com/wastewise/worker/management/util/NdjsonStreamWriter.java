@@ -0,0 +1,54 @@
+package com.wastewise.worker.management.util;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Writes objects to an output stream as newline delimited JSON, flushing every few rows
+ * so the client starts receiving data before the whole result set has been read.
+ */
+public class NdjsonStreamWriter<T> implements Consumer<T>, AutoCloseable {
+
+    private static final int FLUSH_EVERY = 500;
+
+    private final OutputStream outputStream;
+    private final SequenceWriter sequenceWriter;
+    private int pending;
+    private boolean written;
+
+    public NdjsonStreamWriter(ObjectMapper objectMapper, OutputStream outputStream) throws IOException {
+        this.outputStream = outputStream;
+        this.sequenceWriter = objectMapper.writer()
+                .withRootValueSeparator("\n")
+                .writeValues(outputStream);
+    }
+
+    @Override
+    public void accept(T value) {
+        try {
+            sequenceWriter.write(value);
+            written = true;
+            if (++pending >= FLUSH_EVERY) {
+                sequenceWriter.flush();
+                pending = 0;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        sequenceWriter.flush();
+        // SequenceWriter does not add a separator after the last value
+        if (written) {
+            outputStream.write('\n');
+        }
+        outputStream.flush();
+    }
+}
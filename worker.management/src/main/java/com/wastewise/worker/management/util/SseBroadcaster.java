@@ -0,0 +1,211 @@
+package com.wastewise.worker.management.util;
+
+import com.wastewise.worker.management.exception.TooManySubscribersException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Fans events out to at most maxSubscribers Server-Sent Events connections without blocking the publisher:
+ * broadcast only offers the event to a bounded queue per subscriber, and each queue is written to its connection
+ * by a task on the executor, one task per subscriber at a time so events arrive in order. A subscriber whose queue
+ * overflows (a stalled screen) or whose connection fails is dropped; its EventSource reconnects and starts over
+ * with fresh initial events.
+ */
+@Slf4j
+public class SseBroadcaster {
+
+    private static final SseEvent HEARTBEAT = new SseEvent(null, null, null);
+
+    /**
+     * @param id event id, returned by reconnecting clients as Last-Event-ID, may be null
+     * @param name event name, null for the default 'message'
+     * @param data payload, written as JSON
+     */
+    public record SseEvent(String id, String name, Object data) {
+    }
+
+    private final String streamName;
+    private final int maxSubscribers;
+    private final int queueCapacity;
+    private final Supplier<SseEmitter> emitters;
+    private final Executor executor;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // only guards the size check of subscribe, removals do not need it
+    private final ReentrantLock subscribeLock = new ReentrantLock();
+
+    public SseBroadcaster(String streamName, int maxSubscribers, int queueCapacity, Duration timeout, Executor executor) {
+        this(streamName, maxSubscribers, queueCapacity, () -> new SseEmitter(timeout.toMillis()), executor);
+    }
+
+    SseBroadcaster(String streamName, int maxSubscribers, int queueCapacity, Supplier<SseEmitter> emitters, Executor executor) {
+        this.streamName = streamName;
+        this.maxSubscribers = maxSubscribers;
+        this.queueCapacity = queueCapacity;
+        this.emitters = emitters;
+        this.executor = executor;
+    }
+
+    /**
+     * @return a new connection that receives every following broadcast
+     */
+    public SseEmitter subscribe() {
+        return subscribe(List::of);
+    }
+
+    /**
+     * Opens a connection that first receives the initial events, then every broadcast. The subscriber is registered
+     * before the initial events are loaded, so a broadcast racing with the load is delivered after them rather than
+     * lost; consumers must tolerate seeing such a change twice.
+     * @param initialEvents events sent before any broadcast, e.g. a snapshot or the events a reconnecting client missed
+     * @throws TooManySubscribersException when maxSubscribers connections are open
+     */
+    public SseEmitter subscribe(Supplier<List<SseEvent>> initialEvents) {
+        Subscriber subscriber = new Subscriber(emitters.get());
+        subscribeLock.lock();
+        try {
+            if (subscribers.size() >= maxSubscribers) {
+                throw new TooManySubscribersException("at most " + maxSubscribers + " " + streamName + " subscribers are allowed");
+            }
+            subscribers.add(subscriber);
+        } finally {
+            subscribeLock.unlock();
+        }
+        SseEmitter emitter = subscriber.emitter;
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        try {
+            subscriber.start(initialEvents.get());
+        } catch (RuntimeException e) {
+            subscribers.remove(subscriber);
+            throw e;
+        }
+        return emitter;
+    }
+
+    /**
+     * Queues the event for every subscriber and returns at once
+     */
+    public void broadcast(SseEvent event) {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.enqueue(event);
+        }
+    }
+
+    /**
+     * Sends a comment line to every subscriber so proxies keep idle connections open and dead ones are noticed
+     */
+    public void heartbeat() {
+        broadcast(HEARTBEAT);
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEvent> queue = new ArrayBlockingQueue<>(queueCapacity);
+        // true while a drain task is scheduled or running
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private volatile List<SseEvent> initialEvents;
+        private volatile boolean started;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void start(List<SseEvent> events) {
+            initialEvents = events;
+            started = true;
+            schedule();
+        }
+
+        private void enqueue(SseEvent event) {
+            if (!queue.offer(event)) {
+                drop("its queue of " + queueCapacity + " events is full", null);
+                return;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            // events queued before start wait for the initial events
+            if (started && draining.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                List<SseEvent> initial = initialEvents;
+                if (initial != null) {
+                    initialEvents = null;
+                    for (SseEvent event : initial) {
+                        if (!send(event)) {
+                            return;
+                        }
+                    }
+                }
+                SseEvent event;
+                while ((event = queue.poll()) != null) {
+                    if (!send(event)) {
+                        return;
+                    }
+                }
+            } finally {
+                draining.set(false);
+            }
+            if (!queue.isEmpty()) {
+                schedule();
+            }
+        }
+
+        private boolean send(SseEvent event) {
+            SseEmitter.SseEventBuilder builder = SseEmitter.event();
+            if (event == HEARTBEAT) {
+                builder.comment("heartbeat");
+            } else {
+                if (event.id() != null) {
+                    builder.id(event.id());
+                }
+                if (event.name() != null) {
+                    builder.name(event.name());
+                }
+                builder.data(event.data());
+            }
+            try {
+                emitter.send(builder);
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                drop(e.getMessage(), e);
+                return false;
+            }
+        }
+
+        private void drop(String reason, Throwable cause) {
+            if (subscribers.remove(this)) {
+                log.debug("Dropping {} subscriber: {}", streamName, reason);
+                queue.clear();
+                if (cause == null) {
+                    emitter.complete();
+                } else {
+                    emitter.completeWithError(cause);
+                }
+            }
+        }
+    }
+}
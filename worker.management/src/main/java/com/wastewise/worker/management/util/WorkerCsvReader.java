@@ -0,0 +1,97 @@
+package com.wastewise.worker.management.util;
+
+import com.wastewise.worker.management.dto.WorkerCreateDTO;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads workers from a CSV file whose first line names the columns:
+ * name,contactNumber,contactEmail,roleId,workerStatus (in any order, contactEmail and roleId may be left out).
+ * Fields can be wrapped in double quotes when they contain commas.
+ */
+public final class WorkerCsvReader {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("name", "contactNumber", "workerStatus");
+
+    private WorkerCsvReader() {
+    }
+
+    public static List<WorkerCreateDTO> read(InputStream inputStream) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        String header = reader.readLine();
+        if (header == null) {
+            throw new IllegalArgumentException("The CSV file is empty");
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        List<String> headerFields = split(header.replace("\uFEFF", ""));
+        for (int i = 0; i < headerFields.size(); i++) {
+            columns.put(headerFields.get(i).trim(), i);
+        }
+        for (String column : REQUIRED_COLUMNS) {
+            if (!columns.containsKey(column)) {
+                throw new IllegalArgumentException("The CSV header is missing the column '" + column + "'");
+            }
+        }
+
+        List<WorkerCreateDTO> workers = new ArrayList<>();
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            List<String> fields = split(line);
+            WorkerCreateDTO dto = new WorkerCreateDTO();
+            dto.setName(field(fields, columns.get("name")));
+            dto.setContactNumber(field(fields, columns.get("contactNumber")));
+            dto.setContactEmail(field(fields, columns.get("contactEmail")));
+            dto.setRoleId(field(fields, columns.get("roleId")));
+            dto.setWorkerStatus(field(fields, columns.get("workerStatus")));
+            workers.add(dto);
+        }
+        return workers;
+    }
+
+    private static String field(List<String> fields, Integer index) {
+        if (index == null || index >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
@@ -0,0 +1,40 @@
+package com.wastewise.worker.management.allocation;
+
+import com.wastewise.worker.management.dto.WorkerAssignmentDTO;
+import com.wastewise.worker.management.enums.Shift;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AllocationPlannerTest {
+
+    @Test
+    void handsOutTheLeastLoadedWorkersFirst() {
+        AllocationPlanner planner = new AllocationPlanner(List.of("W001", "W002", "W003", "W004"),
+                Map.of("W001", 5, "W002", 1, "W004", 3));
+
+        List<WorkerAssignmentDTO> planned = planner.fill(List.of(
+                new AllocationPlanner.Slot("A001", "Z001", "Z001-R001", Shift.DAY, 2),
+                new AllocationPlanner.Slot("A002", "Z001", "Z001-R002", Shift.DAY, 1)));
+
+        assertEquals(List.of("W003", "W002", "W004"), planned.stream().map(WorkerAssignmentDTO::getWorkerId).toList());
+        assertEquals(List.of("A001", "A002", "A001"), planned.stream().map(WorkerAssignmentDTO::getAssignmentId).toList());
+        assertEquals(1, planner.remaining());
+    }
+
+    @Test
+    void givesEveryAssignmentOneWorkerBeforeAnyGetsItsSecond() {
+        AllocationPlanner planner = new AllocationPlanner(List.of("W001", "W002", "W003"), Map.of());
+
+        List<WorkerAssignmentDTO> planned = planner.fill(List.of(
+                new AllocationPlanner.Slot("A001", "Z001", "Z001-R001", Shift.DAY, 2),
+                new AllocationPlanner.Slot("A002", "Z002", "Z002-R001", Shift.NIGHT, 2),
+                new AllocationPlanner.Slot("A003", "Z003", "Z003-R001", Shift.DAY, 2)));
+
+        assertEquals(List.of("A001", "A002", "A003"), planned.stream().map(WorkerAssignmentDTO::getAssignmentId).toList());
+        assertEquals(0, planner.remaining());
+    }
+}
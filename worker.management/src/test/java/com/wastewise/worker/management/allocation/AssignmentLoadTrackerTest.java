@@ -0,0 +1,98 @@
+package com.wastewise.worker.management.allocation;
+
+import com.wastewise.worker.management.enums.Shift;
+import com.wastewise.worker.management.event.AssignmentChangedEvent;
+import com.wastewise.worker.management.repository.AssignmentHistoryRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AssignmentLoadTrackerTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2026, 3, 31);
+
+    private final AssignmentHistoryRepository historyRepository = mock(AssignmentHistoryRepository.class);
+    private final MovableClock clock = new MovableClock(TODAY.atStartOfDay().toInstant(ZoneOffset.UTC), ZoneOffset.UTC);
+    private final AssignmentLoadTracker tracker = new AssignmentLoadTracker(historyRepository, Duration.ofDays(30), clock);
+
+    @Test
+    void returnsOnlyTheRequestedWorkers() {
+        tracker.onAssignmentChanged(assigned("W001"));
+        tracker.onAssignmentChanged(assigned("W001"));
+        tracker.onAssignmentChanged(assigned("W002"));
+
+        assertEquals(Map.of("W001", 2), tracker.loadsOf(List.of("W001", "W003")));
+    }
+
+    @Test
+    void countsAgeOutOfTheWindow() {
+        when(historyRepository.countAssignmentsByDayAndWorkerSince(any())).thenReturn(Map.of(
+                TODAY.minusDays(29), Map.of("W001", 3),
+                TODAY.minusDays(10), Map.of("W001", 1, "W002", 4)));
+        tracker.loadHistory();
+        tracker.onAssignmentChanged(assigned("W002"));
+        assertEquals(Map.of("W001", 4, "W002", 5), tracker.loadsOf(List.of("W001", "W002")));
+
+        clock.advance(Duration.ofDays(1));
+        assertEquals(Map.of("W001", 1, "W002", 5), tracker.loadsOf(List.of("W001", "W002")));
+
+        clock.advance(Duration.ofDays(20));
+        assertEquals(Map.of("W002", 1), tracker.loadsOf(List.of("W001", "W002")));
+    }
+
+    @Test
+    void historyReplacesTheCountsInsteadOfAddingToThem() {
+        tracker.onAssignmentChanged(assigned("W001"));
+        when(historyRepository.countAssignmentsByDayAndWorkerSince(any())).thenReturn(Map.of(
+                TODAY, Map.of("W001", 1)));
+
+        tracker.loadHistory();
+
+        assertEquals(Map.of("W001", 1), tracker.loadsOf(List.of("W001")));
+    }
+
+    private static AssignmentChangedEvent assigned(String workerId) {
+        return AssignmentChangedEvent.added("A001", workerId, "Z001", "Z001-R001", Shift.DAY);
+    }
+
+    private static final class MovableClock extends Clock {
+        private final ZoneId zone;
+        private volatile Instant now;
+
+        MovableClock(Instant now, ZoneId zone) {
+            this.now = now;
+            this.zone = zone;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new MovableClock(now, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
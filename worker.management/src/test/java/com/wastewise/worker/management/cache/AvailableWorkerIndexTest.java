@@ -0,0 +1,83 @@
+package com.wastewise.worker.management.cache;
+
+import com.wastewise.worker.management.dto.WorkerRoleStatusDTO;
+import com.wastewise.worker.management.enums.WorkerStatus;
+import com.wastewise.worker.management.event.WorkerStatusChangedEvent;
+import com.wastewise.worker.management.repository.WorkerRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class AvailableWorkerIndexTest {
+
+    private final WorkerRepository workerRepository = mock(WorkerRepository.class);
+    private final AvailableWorkerIndex index = new AvailableWorkerIndex(workerRepository);
+
+    @Test
+    void statusChangeCommittedWhileReloadReadsIsNotLost() {
+        // the change commits after the snapshot was read but before the reload swaps it in
+        when(workerRepository.findAllRoleStatuses()).thenAnswer(invocation -> {
+            index.onWorkerStatusChanged(new WorkerStatusChangedEvent("W001", "003",
+                    WorkerStatus.AVAILABLE, WorkerStatus.OCCUPIED));
+            return List.of(new WorkerRoleStatusDTO("W001", "003", WorkerStatus.AVAILABLE),
+                    new WorkerRoleStatusDTO("W002", "003", WorkerStatus.AVAILABLE));
+        });
+
+        index.reload();
+
+        assertFalse(index.isAvailable("W001"));
+        assertEquals(List.of("W002"), index.getAvailableWorkerIds("003"));
+    }
+
+    @Test
+    void changesDuringAReloadFromManyThreadsAllLand() throws Exception {
+        List<String> workerIds = new ArrayList<>();
+        List<WorkerRoleStatusDTO> snapshot = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            String workerId = String.format("W%03d", i + 1);
+            workerIds.add(workerId);
+            snapshot.add(new WorkerRoleStatusDTO(workerId, "003", WorkerStatus.AVAILABLE));
+        }
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch changed = new CountDownLatch(1);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        when(workerRepository.findAllRoleStatuses()).thenAnswer(invocation -> {
+            reading.countDown();
+            changed.await();
+            return snapshot;
+        });
+
+        Thread reload = new Thread(() -> {
+            try {
+                index.reload();
+            } catch (Throwable ex) {
+                failure.set(ex);
+            }
+        });
+        reload.start();
+        reading.await();
+        try (ExecutorService events = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String workerId : workerIds) {
+                events.submit(() -> index.onWorkerStatusChanged(new WorkerStatusChangedEvent(workerId, null,
+                        WorkerStatus.AVAILABLE, WorkerStatus.OCCUPIED)));
+            }
+        }
+        changed.countDown();
+        reload.join();
+
+        assertNull(failure.get());
+        assertTrue(index.getAvailableWorkerIds("003").isEmpty());
+    }
+}
@@ -0,0 +1,70 @@
+package com.wastewise.worker.management.cache;
+
+import com.wastewise.worker.management.dto.WorkerContactDTO;
+import com.wastewise.worker.management.repository.WorkerRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UsedContactFilterTest {
+
+    private final WorkerRepository workerRepository = mock(WorkerRepository.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UsedContactFilter filter = new UsedContactFilter(workerRepository, meterRegistry, 10_000, 0.0001);
+
+    @Test
+    void everyContactMightBeUsedUntilTheFirstLoad() {
+        assertTrue(filter.mightBeUsed("9000000001", "nobody@wastewise.com"));
+        assertEquals(1, checks("maybe-used"));
+    }
+
+    @Test
+    void loadedContactsMightBeUsedAndOthersAreNot() {
+        when(workerRepository.streamAllContacts()).thenReturn(Stream.of(
+                new WorkerContactDTO("9000000001", "first@wastewise.com"),
+                new WorkerContactDTO("9000000002", null)));
+
+        filter.load();
+
+        assertTrue(filter.mightBeUsed("9000000001", null));
+        assertTrue(filter.mightBeUsed("9000000099", "first@wastewise.com"));
+        assertTrue(filter.mightBeUsed("9000000002", "second@wastewise.com"));
+        assertFalse(filter.mightBeUsed("9000000003", "third@wastewise.com"));
+        assertFalse(filter.mightBeUsed("9000000004", null));
+        assertEquals(3, checks("maybe-used"));
+        assertEquals(2, checks("unused"));
+    }
+
+    @Test
+    void numbersAndEmailsDoNotMatchEachOther() {
+        when(workerRepository.streamAllContacts()).thenReturn(Stream.empty());
+        filter.load();
+
+        filter.add("9000000001", null);
+
+        assertFalse(filter.mightBeUsed("9000000002", "9000000001"));
+    }
+
+    @Test
+    void addedContactsMightBeUsed() {
+        when(workerRepository.streamAllContacts()).thenReturn(Stream.empty());
+        filter.load();
+        assertFalse(filter.mightBeUsed("9000000001", "first@wastewise.com"));
+
+        filter.add("9000000001", "first@wastewise.com");
+
+        assertTrue(filter.mightBeUsed("9000000001", null));
+        assertTrue(filter.mightBeUsed("9000000005", "first@wastewise.com"));
+    }
+
+    private double checks(String result) {
+        return meterRegistry.get("wastewise.contact.filter.checks").tag("result", result).counter().count();
+    }
+}
@@ -0,0 +1,151 @@
+package com.wastewise.worker.management.client;
+
+import com.wastewise.worker.management.exception.DownstreamClientErrorException;
+import com.wastewise.worker.management.exception.DownstreamServiceException;
+import com.wastewise.worker.management.exception.ResourceNotFoundException;
+import com.wastewise.worker.management.service.serviceimpl.ReferenceDataServiceImpl;
+import feign.FeignException;
+import feign.Request;
+import feign.Response;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Circuit breaker and bulkhead as configured in application.properties; the tests call their own service names,
+ * so each one gets a fresh breaker and bulkhead from the default configs.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class DownstreamCallsTest {
+
+    @Autowired
+    private DownstreamCalls downstreamCalls;
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    @Autowired
+    private BulkheadRegistry bulkheadRegistry;
+
+    @Test
+    void serverErrorsOpenTheCircuit() {
+        String service = "failing-service";
+        AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < 10; i++) {
+            assertThrows(DownstreamServiceException.class, () -> downstreamCalls.call(service, () -> {
+                calls.incrementAndGet();
+                throw feignException(503);
+            }));
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreakerRegistry.circuitBreaker(service).getState());
+        DownstreamServiceException rejected = assertThrows(DownstreamServiceException.class,
+                () -> downstreamCalls.call(service, calls::incrementAndGet));
+        assertTrue(rejected.getMessage().contains("circuit breaker is open"));
+        assertEquals(10, calls.get());
+    }
+
+    @Test
+    void callsTurnedAwayByAFullBulkheadDoNotOpenTheCircuit() throws Exception {
+        String service = "busy-service";
+        int maxConcurrentCalls = bulkheadRegistry.bulkhead(service).getBulkheadConfig().getMaxConcurrentCalls();
+        CountDownLatch started = new CountDownLatch(maxConcurrentCalls);
+        CountDownLatch release = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(maxConcurrentCalls)) {
+            for (int i = 0; i < maxConcurrentCalls; i++) {
+                executor.submit(() -> downstreamCalls.call(service, () -> {
+                    started.countDown();
+                    return await(release);
+                }));
+            }
+            try {
+                assertTrue(started.await(10, TimeUnit.SECONDS));
+                for (int i = 0; i < 30; i++) {
+                    DownstreamServiceException busy = assertThrows(DownstreamServiceException.class,
+                            () -> downstreamCalls.call(service, () -> "ok"));
+                    assertTrue(busy.getMessage().contains("too many concurrent calls"));
+                }
+            } finally {
+                release.countDown();
+            }
+        }
+
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(service);
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertEquals(0, circuitBreaker.getMetrics().getNumberOfFailedCalls());
+        assertEquals("ok", downstreamCalls.call(service, () -> "ok"));
+    }
+
+    @Test
+    void notFoundPassesThroughWithoutCountingAsAFailure() {
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(DownstreamCalls.ZONE_SERVICE);
+        circuitBreaker.reset();
+        ZoneServiceClient zoneServiceClient = mock(ZoneServiceClient.class);
+        when(zoneServiceClient.getZone("Z404")).thenThrow(feignException(404));
+        ReferenceDataServiceImpl referenceDataService = new ReferenceDataServiceImpl(zoneServiceClient,
+                mock(RouteServiceClient.class), downstreamCalls);
+
+        for (int i = 0; i < 20; i++) {
+            assertThrows(ResourceNotFoundException.class, () -> referenceDataService.getZone("Z404"));
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertEquals(0, circuitBreaker.getMetrics().getNumberOfFailedCalls());
+    }
+
+    @Test
+    void clientErrorsKeepTheirStatusAndDoNotOpenTheCircuit() {
+        String service = "strict-service";
+        for (int i = 0; i < 20; i++) {
+            DownstreamClientErrorException rejected = assertThrows(DownstreamClientErrorException.class,
+                    () -> downstreamCalls.call(service, () -> {
+                        throw feignException(400);
+                    }));
+            assertEquals(400, rejected.getStatus());
+        }
+
+        CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(service);
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+        assertEquals(0, circuitBreaker.getMetrics().getNumberOfFailedCalls());
+    }
+
+    private static String await(CountDownLatch latch) {
+        try {
+            latch.await();
+            return "ok";
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static FeignException feignException(int status) {
+        Request request = Request.create(Request.HttpMethod.GET, "http://downstream/resource", Map.of(), null,
+                StandardCharsets.UTF_8, null);
+        return FeignException.errorStatus("Client#get()", Response.builder()
+                .status(status)
+                .reason("status " + status)
+                .request(request)
+                .headers(Map.of())
+                .build());
+    }
+}
@@ -0,0 +1,95 @@
+package com.wastewise.worker.management.generator;
+
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class WorkerIdGeneratorTest {
+
+    private JdbcDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:id-generator-" + System.nanoTime() + ";MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE worker (worker_id VARCHAR(255) PRIMARY KEY)");
+        jdbcTemplate.execute("CREATE TABLE id_sequence (sequence_name VARCHAR(255) PRIMARY KEY, next_value BIGINT NOT NULL)");
+    }
+
+    @Test
+    void formatPadsToThreeDigitsAndGrowsPastThem() {
+        assertEquals("W001", WorkerIdGenerator.format(1));
+        assertEquals("W999", WorkerIdGenerator.format(999));
+        assertEquals("W1000", WorkerIdGenerator.format(1000));
+    }
+
+    @Test
+    void startsAfterExistingWorkersAndOnlyHitsTheTableOncePerBlock() {
+        jdbcTemplate.update("INSERT INTO worker (worker_id) VALUES ('W041'), ('W007')");
+        WorkerIdGenerator generator = new WorkerIdGenerator(dataSource, 3);
+
+        assertEquals("W042", generator.nextId());
+        assertEquals(45L, nextValue());
+        assertEquals("W043", generator.nextId());
+        assertEquals("W044", generator.nextId());
+        assertEquals(45L, nextValue());
+
+        assertEquals("W045", generator.nextId());
+        assertEquals(48L, nextValue());
+    }
+
+    @Test
+    void largeRequestsGetTheirOwnRange() {
+        WorkerIdGenerator generator = new WorkerIdGenerator(dataSource, 3);
+
+        assertEquals("W001", generator.nextId());
+        assertEquals(List.of("W004", "W005", "W006", "W007"), generator.nextIds(4));
+        assertEquals("W002", generator.nextId());
+        assertEquals(8L, nextValue());
+    }
+
+    @Test
+    void instancesSharingTheTableNeverHandOutAnIdTwice() throws Exception {
+        List<WorkerIdGenerator> instances = List.of(new WorkerIdGenerator(dataSource, 5), new WorkerIdGenerator(dataSource, 5));
+        List<Future<List<String>>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int task = 0; task < 32; task++) {
+                WorkerIdGenerator generator = instances.get(task % 2);
+                int batch = task % 3 == 0 ? 7 : 1;
+                results.add(executor.submit(() -> {
+                    List<String> ids = new ArrayList<>();
+                    for (int i = 0; i < 20; i++) {
+                        ids.addAll(batch == 1 ? List.of(generator.nextId()) : generator.nextIds(batch));
+                    }
+                    return ids;
+                }));
+            }
+        }
+        Set<String> unique = new HashSet<>();
+        int total = 0;
+        for (Future<List<String>> result : results) {
+            List<String> ids = result.get();
+            total += ids.size();
+            unique.addAll(ids);
+        }
+        assertEquals(total, unique.size());
+    }
+
+    private long nextValue() {
+        return jdbcTemplate.queryForObject("SELECT next_value FROM id_sequence WHERE sequence_name = ?", Long.class,
+                WorkerIdGenerator.SEQUENCE_NAME);
+    }
+}
@@ -0,0 +1,157 @@
+package com.wastewise.worker.management.history;
+
+import com.wastewise.worker.management.dto.AssignmentHistoryDTO;
+import com.wastewise.worker.management.dto.WorkerAssignmentDTO;
+import com.wastewise.worker.management.enums.AssignmentAction;
+import com.wastewise.worker.management.enums.Shift;
+import com.wastewise.worker.management.security.Auditor;
+import com.wastewise.worker.management.service.serviceimpl.AssignmentHistoryServiceImpl;
+import com.wastewise.worker.management.service.serviceimpl.WorkerAssignmentServiceImpl;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.wastewise.worker.management.enums.AssignmentAction.ASSIGNED;
+import static com.wastewise.worker.management.enums.AssignmentAction.UNASSIGNED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * One assignment taken through assign, single and double reassignment and deletion, with the history read back
+ * through the service. The zone, workers and assignment id are used by no other test.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class AssignmentHistoryTest {
+
+    private static final String ZONE_ID = "Z095";
+    private static final String ROUTE_ID = "Z095-R001";
+    private static final String ASSIGNMENT_ID = "A951";
+
+    @Autowired
+    private WorkerAssignmentServiceImpl workerAssignmentService;
+
+    @Autowired
+    private AssignmentHistoryServiceImpl assignmentHistoryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final LocalDate today = LocalDate.now();
+
+    @BeforeAll
+    void recordHistory() {
+        List<String> workerIds = List.of("W8300001", "W8300002", "W8300003", "W8300004", "W8300005");
+        jdbcTemplate.batchUpdate("INSERT INTO worker (worker_id, name, contact_number, contact_email, worker_status, " +
+                        "role_id, created_by, created_date, version) VALUES (?, ?, ?, ?, 'AVAILABLE', '003', 'W001', ?, 0)",
+                workerIds, workerIds.size(), (ps, workerId) -> {
+                    ps.setString(1, workerId);
+                    ps.setString(2, "worker " + workerId);
+                    ps.setString(3, "9" + workerId.substring(1) + "00");
+                    ps.setString(4, workerId.toLowerCase() + "@wastewise.com");
+                    ps.setObject(5, LocalDateTime.now());
+                });
+
+        workerAssignmentService.assignWorkerToAssignment(ASSIGNMENT_ID, "W8300001", assignment("W8300001"));
+        workerAssignmentService.assignWorkerToAssignment(ASSIGNMENT_ID, "W8300002", assignment("W8300002"));
+        workerAssignmentService.updateSingleWorkerAssignment(ASSIGNMENT_ID, "W8300001", "W8300003");
+        workerAssignmentService.updateBothWorkerAssignments(ASSIGNMENT_ID, "W8300003", "W8300002", "W8300004", "W8300005");
+        workerAssignmentService.deleteWorkerAssignment(ASSIGNMENT_ID);
+    }
+
+    @Test
+    void everyWorkerMovementIsRecordedWithTheAssignmentsZoneRouteAndShift() {
+        List<AssignmentHistoryDTO> history = zoneHistory(100);
+
+        assertEquals(List.of(
+                        row(ASSIGNED, "W8300001"), row(ASSIGNED, "W8300002"),
+                        // single reassignment
+                        row(UNASSIGNED, "W8300001"), row(ASSIGNED, "W8300003"),
+                        // double reassignment
+                        row(UNASSIGNED, "W8300003"), row(ASSIGNED, "W8300004"),
+                        row(UNASSIGNED, "W8300002"), row(ASSIGNED, "W8300005")),
+                history.subList(0, 8).stream().map(AssignmentHistoryTest::row).toList());
+        // deletion, one row per worker in no particular order
+        assertEquals(List.of(row(UNASSIGNED, "W8300004"), row(UNASSIGNED, "W8300005")),
+                history.subList(8, 10).stream().map(AssignmentHistoryTest::row).sorted().toList());
+        assertEquals(10, history.size());
+
+        // reassignment events carry no zone, route or shift, they come from the moved assignment row
+        for (AssignmentHistoryDTO entry : history) {
+            assertEquals(ASSIGNMENT_ID, entry.getAssignmentId());
+            assertEquals(ZONE_ID, entry.getZoneId());
+            assertEquals(ROUTE_ID, entry.getRouteId());
+            assertEquals(Shift.NIGHT, entry.getShift());
+            assertEquals(Auditor.SYSTEM, entry.getChangedBy());
+        }
+    }
+
+    @Test
+    void workerHistoryOnlyHoldsThatWorkersRows() {
+        List<AssignmentHistoryDTO> history = assignmentHistoryService.findWorkerHistory("W8300003",
+                today.minusDays(1), today.plusDays(1), 0, 100);
+
+        assertEquals(List.of(row(ASSIGNED, "W8300003"), row(UNASSIGNED, "W8300003")),
+                history.stream().map(AssignmentHistoryTest::row).toList());
+    }
+
+    @Test
+    void rowsOutsideTheRangeAreNotReturned() {
+        assertTrue(assignmentHistoryService.findWorkerHistory("W8300003", today.plusDays(1), today.plusDays(2), 0, 100).isEmpty());
+        assertTrue(assignmentHistoryService.findZoneHistory(ZONE_ID, today.minusDays(2), today.minusDays(1), 0, 100).isEmpty());
+        assertThrows(IllegalArgumentException.class,
+                () -> assignmentHistoryService.findZoneHistory(ZONE_ID, today, today, 0, 100));
+    }
+
+    @Test
+    void pagesFollowEachOtherByHistoryId() {
+        List<AssignmentHistoryDTO> all = zoneHistory(100);
+
+        List<AssignmentHistoryDTO> paged = new ArrayList<>();
+        long afterId = 0;
+        List<AssignmentHistoryDTO> page;
+        do {
+            page = assignmentHistoryService.findZoneHistory(ZONE_ID, today.minusDays(1), today.plusDays(1), afterId, 4);
+            assertTrue(page.size() <= 4);
+            paged.addAll(page);
+            if (!page.isEmpty()) {
+                afterId = page.get(page.size() - 1).getHistoryId();
+            }
+        } while (page.size() == 4);
+
+        assertEquals(all, paged);
+    }
+
+    private List<AssignmentHistoryDTO> zoneHistory(int limit) {
+        return assignmentHistoryService.findZoneHistory(ZONE_ID, today.minusDays(1), today.plusDays(1), 0, limit);
+    }
+
+    private static String row(AssignmentHistoryDTO entry) {
+        return row(entry.getAction(), entry.getWorkerId());
+    }
+
+    private static String row(AssignmentAction action, String workerId) {
+        return action + " " + workerId;
+    }
+
+    private static WorkerAssignmentDTO assignment(String workerId) {
+        WorkerAssignmentDTO dto = new WorkerAssignmentDTO();
+        dto.setAssignmentId(ASSIGNMENT_ID);
+        dto.setWorkerId(workerId);
+        dto.setZoneId(ZONE_ID);
+        dto.setRouteId(ROUTE_ID);
+        dto.setShift("NIGHT");
+        return dto;
+    }
+}
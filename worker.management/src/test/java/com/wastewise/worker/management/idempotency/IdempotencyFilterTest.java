@@ -0,0 +1,304 @@
+package com.wastewise.worker.management.idempotency;
+
+import com.wastewise.worker.management.security.RequestPrincipal;
+import jakarta.servlet.Filter;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+class IdempotencyFilterTest {
+
+    private final TestController controller = new TestController();
+
+    @Test
+    void retryGetsTheStoredResponseWithoutRunningAgain() throws Exception {
+        MockMvc mockMvc = mockMvc(Duration.ofSeconds(5));
+
+        MvcResult first = mockMvc.perform(withKey(post("/things"), "k1").content("{\"name\":\"a\"}")).andReturn();
+        MvcResult retry = mockMvc.perform(withKey(post("/things"), "k1").content("{\"name\":\"a\"}")).andReturn();
+
+        assertEquals(201, first.getResponse().getStatus());
+        assertNull(first.getResponse().getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertEquals(201, retry.getResponse().getStatus());
+        assertEquals("true", retry.getResponse().getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertEquals(first.getResponse().getContentAsString(), retry.getResponse().getContentAsString());
+        assertTrue(MediaType.TEXT_PLAIN.isCompatibleWith(MediaType.parseMediaType(retry.getResponse().getContentType())));
+        assertEquals("/things/1", retry.getResponse().getHeader(HttpHeaders.LOCATION));
+        assertEquals(List.of("a", "b"), retry.getResponse().getHeaders("X-Test"));
+        assertEquals(1, controller.created.get());
+    }
+
+    @Test
+    void keysAreScopedToTheWorker() throws Exception {
+        MockMvc mockMvc = mockMvc(Duration.ofSeconds(5));
+
+        mockMvc.perform(withKey(post("/things"), "k1").requestAttr(RequestPrincipal.ATTRIBUTE, principal("W001"))
+                .content("{}"));
+        MvcResult otherWorker = mockMvc.perform(withKey(post("/things"), "k1")
+                .requestAttr(RequestPrincipal.ATTRIBUTE, principal("W002")).content("{}")).andReturn();
+
+        assertNull(otherWorker.getResponse().getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertEquals(2, controller.created.get());
+    }
+
+    @Test
+    void keysWithoutAWorkerAreScopedToMethodAndPath() throws Exception {
+        MockMvc mockMvc = mockMvc(Duration.ofSeconds(5));
+
+        mockMvc.perform(withKey(post("/things"), "k1").content("{}"));
+        MvcResult otherPath = mockMvc.perform(withKey(post("/conflicting"), "k1").content("{}")).andReturn();
+        MvcResult samePath = mockMvc.perform(withKey(post("/things"), "k1").content("{}")).andReturn();
+
+        assertEquals(409, otherPath.getResponse().getStatus());
+        assertEquals(1, controller.conflicting.get());
+        assertEquals("true", samePath.getResponse().getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertEquals(1, controller.created.get());
+    }
+
+    @Test
+    void bufferedBodyCanBeReadThroughAReadListener() throws Exception {
+        List<String> events = new CopyOnWriteArrayList<>();
+        Filter nonBlockingReader = (request, response, chain) -> {
+            ServletInputStream in = request.getInputStream();
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            in.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    events.add("data");
+                    while (in.isReady() && !in.isFinished()) {
+                        body.write(in.read());
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    events.add("done " + body.toString(StandardCharsets.UTF_8));
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    events.add("error");
+                }
+            });
+        };
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller)
+                .addFilters(new IdempotencyFilter(new IdempotencyStore(1024 * 1024, Duration.ofMinutes(5)),
+                        Duration.ofSeconds(5)), nonBlockingReader)
+                .build();
+
+        mockMvc.perform(withKey(post("/things"), "k1").content("{\"name\":\"a\"}"));
+
+        assertEquals(List.of("data", "done {\"name\":\"a\"}"), events);
+    }
+
+    @Test
+    void differentKeysRunSeparately() throws Exception {
+        MockMvc mockMvc = mockMvc(Duration.ofSeconds(5));
+
+        mockMvc.perform(withKey(post("/things"), "k1").content("{}"));
+        mockMvc.perform(withKey(post("/things"), "k2").content("{}"));
+        mockMvc.perform(post("/things").contentType(MediaType.APPLICATION_JSON).content("{}"));
+
+        assertEquals(3, controller.created.get());
+    }
+
+    @Test
+    void keyReusedForADifferentBodyIsUnprocessable() throws Exception {
+        MockMvc mockMvc = mockMvc(Duration.ofSeconds(5));
+
+        mockMvc.perform(withKey(post("/things"), "k1").content("{\"name\":\"a\"}"));
+        MvcResult reused = mockMvc.perform(withKey(post("/things"), "k1").content("{\"name\":\"b\"}")).andReturn();
+
+        assertEquals(422, reused.getResponse().getStatus());
+        assertTrue(reused.getResponse().getContentAsString().startsWith("Idempotency error:"));
+        assertEquals(1, controller.created.get());
+    }
+
+    @Test
+    void blankOrOverlongKeyIsABadRequest() throws Exception {
+        MockMvc mockMvc = mockMvc(Duration.ofSeconds(5));
+
+        assertEquals(400, mockMvc.perform(withKey(post("/things"), " ").content("{}"))
+                .andReturn().getResponse().getStatus());
+        assertEquals(400, mockMvc.perform(withKey(post("/things"), "k".repeat(256)).content("{}"))
+                .andReturn().getResponse().getStatus());
+        assertEquals(0, controller.created.get());
+    }
+
+    @Test
+    void readsAreNotFiltered() throws Exception {
+        MockMvc mockMvc = mockMvc(Duration.ofSeconds(5));
+
+        mockMvc.perform(withKey(get("/things"), "k1"));
+        MvcResult second = mockMvc.perform(withKey(get("/things"), "k1")).andReturn();
+
+        assertNull(second.getResponse().getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertEquals(2, controller.read.get());
+    }
+
+    @Test
+    void duplicateArrivingWhileTheFirstRunsWaitsForItsResponse() throws Exception {
+        MockMvc mockMvc = mockMvc(Duration.ofSeconds(10));
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<MvcResult> first = executor.submit(() ->
+                    mockMvc.perform(withKey(post("/slow"), "k1").content("{}")).andReturn());
+            Future<MvcResult> duplicate;
+            try {
+                assertTrue(controller.slowStarted.await(10, TimeUnit.SECONDS));
+                duplicate = executor.submit(() ->
+                        mockMvc.perform(withKey(post("/slow"), "k1").content("{}")).andReturn());
+                // give the duplicate time to find the claimed key
+                Thread.sleep(200);
+            } finally {
+                controller.slowRelease.countDown();
+            }
+
+            assertEquals(201, first.get(10, TimeUnit.SECONDS).getResponse().getStatus());
+            MvcResult replayed = duplicate.get(10, TimeUnit.SECONDS);
+            assertEquals(201, replayed.getResponse().getStatus());
+            assertEquals("true", replayed.getResponse().getHeader(IdempotencyFilter.REPLAYED_HEADER));
+            assertEquals("slow 1", replayed.getResponse().getContentAsString());
+        }
+        assertEquals(1, controller.slow.get());
+    }
+
+    @Test
+    void duplicateGivesUpWithAConflictWhenTheFirstRunsTooLong() throws Exception {
+        MockMvc mockMvc = mockMvc(Duration.ofMillis(100));
+
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            Future<MvcResult> first = executor.submit(() ->
+                    mockMvc.perform(withKey(post("/slow"), "k1").content("{}")).andReturn());
+            try {
+                assertTrue(controller.slowStarted.await(10, TimeUnit.SECONDS));
+                MvcResult duplicate = mockMvc.perform(withKey(post("/slow"), "k1").content("{}")).andReturn();
+
+                assertEquals(409, duplicate.getResponse().getStatus());
+                assertTrue(duplicate.getResponse().getContentAsString().contains("still being processed"));
+            } finally {
+                controller.slowRelease.countDown();
+            }
+            assertEquals(201, first.get(10, TimeUnit.SECONDS).getResponse().getStatus());
+        }
+        assertEquals(1, controller.slow.get());
+    }
+
+    @Test
+    void serverErrorsAreNotStored() throws Exception {
+        MockMvc mockMvc = mockMvc(Duration.ofSeconds(5));
+
+        MvcResult first = mockMvc.perform(withKey(post("/failing"), "k1").content("{}")).andReturn();
+        MvcResult retry = mockMvc.perform(withKey(post("/failing"), "k1").content("{}")).andReturn();
+
+        assertEquals(500, first.getResponse().getStatus());
+        assertEquals(500, retry.getResponse().getStatus());
+        assertNull(retry.getResponse().getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertEquals(2, controller.failing.get());
+    }
+
+    @Test
+    void conflictsAreNotStored() throws Exception {
+        MockMvc mockMvc = mockMvc(Duration.ofSeconds(5));
+
+        MvcResult first = mockMvc.perform(withKey(post("/conflicting"), "k1").content("{}")).andReturn();
+        MvcResult retry = mockMvc.perform(withKey(post("/conflicting"), "k1").content("{}")).andReturn();
+
+        assertEquals(409, first.getResponse().getStatus());
+        assertEquals(409, retry.getResponse().getStatus());
+        assertNull(retry.getResponse().getHeader(IdempotencyFilter.REPLAYED_HEADER));
+        assertEquals(2, controller.conflicting.get());
+    }
+
+    private MockMvc mockMvc(Duration waitTimeout) {
+        IdempotencyStore store = new IdempotencyStore(1024 * 1024, Duration.ofMinutes(5));
+        return MockMvcBuilders.standaloneSetup(controller)
+                .addFilters(new IdempotencyFilter(store, waitTimeout))
+                .build();
+    }
+
+    private static RequestPrincipal principal(String workerId) {
+        return new RequestPrincipal(workerId, "R001", "WORKER", Instant.now().plusSeconds(300));
+    }
+
+    private static MockHttpServletRequestBuilder withKey(MockHttpServletRequestBuilder request, String key) {
+        return request.header(IdempotencyFilter.KEY_HEADER, key).contentType(MediaType.APPLICATION_JSON);
+    }
+
+    @RestController
+    static class TestController {
+
+        final AtomicInteger created = new AtomicInteger();
+        final AtomicInteger read = new AtomicInteger();
+        final AtomicInteger slow = new AtomicInteger();
+        final AtomicInteger failing = new AtomicInteger();
+        final AtomicInteger conflicting = new AtomicInteger();
+        final CountDownLatch slowStarted = new CountDownLatch(1);
+        final CountDownLatch slowRelease = new CountDownLatch(1);
+
+        @PostMapping(value = "/things", produces = MediaType.TEXT_PLAIN_VALUE)
+        ResponseEntity<String> create(@RequestBody String body) {
+            int id = created.incrementAndGet();
+            return ResponseEntity.created(URI.create("/things/" + id))
+                    .header("X-Test", "a", "b")
+                    .body("created " + id);
+        }
+
+        @GetMapping("/things")
+        String list() {
+            return "read " + read.incrementAndGet();
+        }
+
+        @PostMapping(value = "/slow", produces = MediaType.TEXT_PLAIN_VALUE)
+        ResponseEntity<String> slow(@RequestBody String body) throws InterruptedException {
+            slowStarted.countDown();
+            slowRelease.await(10, TimeUnit.SECONDS);
+            return ResponseEntity.status(HttpStatus.CREATED).body("slow " + slow.incrementAndGet());
+        }
+
+        @PostMapping("/failing")
+        ResponseEntity<String> failing(@RequestBody String body) {
+            failing.incrementAndGet();
+            return ResponseEntity.internalServerError().body("failed");
+        }
+
+        @PostMapping("/conflicting")
+        ResponseEntity<String> conflicting(@RequestBody String body) {
+            conflicting.incrementAndGet();
+            return ResponseEntity.status(HttpStatus.CONFLICT).body("conflict");
+        }
+    }
+}
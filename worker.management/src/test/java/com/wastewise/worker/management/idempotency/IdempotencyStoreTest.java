@@ -0,0 +1,45 @@
+package com.wastewise.worker.management.idempotency;
+
+import com.wastewise.worker.management.idempotency.IdempotencyStore.Claim;
+import com.wastewise.worker.management.idempotency.IdempotencyStore.StoredResponse;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class IdempotencyStoreTest {
+
+    private final IdempotencyStore store = new IdempotencyStore(1024 * 1024, Duration.ofMinutes(5));
+
+    @Test
+    void duplicatesGetTheResponseOfTheFirstRequest() {
+        Claim first = store.claim("W001:k1", "f1");
+        Claim retry = store.claim("W001:k1", "f1");
+        assertTrue(first.owner());
+        assertFalse(retry.owner());
+        assertFalse(retry.entry().response().isDone());
+
+        StoredResponse response = new StoredResponse(201, "text/plain", Map.of(), "Created".getBytes());
+        store.complete("W001:k1", first.entry(), response);
+
+        assertSame(response, retry.entry().response().getNow(null));
+        assertSame(response, store.claim("W001:k1", "f1").entry().response().getNow(null));
+        assertTrue(store.claim("W002:k1", "f1").owner());
+    }
+
+    @Test
+    void releasedKeysCanBeClaimedAgain() {
+        Claim first = store.claim("W001:k1", "f1");
+        Claim waiting = store.claim("W001:k1", "f1");
+
+        store.release("W001:k1", first.entry());
+
+        assertNull(waiting.entry().response().getNow(null));
+        assertTrue(store.claim("W001:k1", "f1").owner());
+    }
+}
@@ -0,0 +1,102 @@
+package com.wastewise.worker.management.outbox;
+
+import com.wastewise.worker.management.dto.WorkerStatusChangeDTO;
+import com.wastewise.worker.management.enums.WorkerStatus;
+import com.wastewise.worker.management.repository.WorkerStatusOutboxRepository;
+import com.wastewise.worker.management.util.SseBroadcaster;
+import com.wastewise.worker.management.util.SseBroadcaster.SseEvent;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.atLeast;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * The stream reads published changes from the table, so those relayed by other instances reach the subscribers too
+ */
+class WorkerStatusEventStreamTest {
+
+    private final WorkerStatusOutboxRepository outboxRepository = mock(WorkerStatusOutboxRepository.class);
+    private final SseBroadcaster broadcaster = mock(SseBroadcaster.class);
+    private final WorkerStatusEventStream eventStream = new WorkerStatusEventStream(outboxRepository, broadcaster, 2);
+
+    @Test
+    void broadcastsEveryChangePublishedSinceTheSubscriptionInOrder() {
+        when(outboxRepository.findLastPublishSeq()).thenReturn(10L);
+        when(broadcaster.subscriberCount()).thenReturn(1);
+        eventStream.subscribe(null);
+        when(outboxRepository.findPublishedAfter(10L, Limit.of(2))).thenReturn(List.of(change(11), change(12)));
+        when(outboxRepository.findPublishedAfter(12L, Limit.of(2))).thenReturn(List.of(change(13)));
+
+        eventStream.poll();
+        eventStream.poll();
+
+        assertEquals(List.of("11", "12", "13"), broadcastIds());
+        verify(outboxRepository).findPublishedAfter(12L, Limit.of(2));
+        verify(outboxRepository).findPublishedAfter(13L, Limit.of(2));
+    }
+
+    @Test
+    void doesNotReadTheTableWithoutSubscribers() {
+        when(broadcaster.subscriberCount()).thenReturn(0);
+
+        eventStream.poll();
+
+        verify(outboxRepository, never()).findLastPublishSeq();
+        verify(outboxRepository, never()).findPublishedAfter(anyLong(), any());
+    }
+
+    @Test
+    void tailRestartsFromTheLatestChangeOnceSubscribersReturn() {
+        when(outboxRepository.findLastPublishSeq()).thenReturn(10L, 20L);
+        when(broadcaster.subscriberCount()).thenReturn(1);
+        eventStream.subscribe(null);
+        when(broadcaster.subscriberCount()).thenReturn(0);
+        eventStream.poll();
+
+        when(broadcaster.subscriberCount()).thenReturn(1);
+        eventStream.subscribe(null);
+        when(outboxRepository.findPublishedAfter(20L, Limit.of(2))).thenReturn(List.of(change(21)));
+        eventStream.poll();
+
+        assertEquals(List.of("21"), broadcastIds());
+        verify(outboxRepository, never()).findPublishedAfter(10L, Limit.of(2));
+    }
+
+    @Test
+    void failedReadIsRetriedFromTheSameChange() {
+        when(outboxRepository.findLastPublishSeq()).thenReturn(10L);
+        when(broadcaster.subscriberCount()).thenReturn(1);
+        eventStream.subscribe(null);
+        when(outboxRepository.findPublishedAfter(10L, Limit.of(2)))
+                .thenThrow(new DataAccessResourceFailureException("database down"))
+                .thenReturn(List.of(change(11)));
+
+        eventStream.poll();
+        eventStream.poll();
+
+        assertEquals(List.of("11"), broadcastIds());
+    }
+
+    private List<String> broadcastIds() {
+        ArgumentCaptor<SseEvent> events = ArgumentCaptor.forClass(SseEvent.class);
+        verify(broadcaster, atLeast(0)).broadcast(events.capture());
+        return events.getAllValues().stream().map(SseEvent::id).toList();
+    }
+
+    private static WorkerStatusChangeDTO change(long eventId) {
+        return new WorkerStatusChangeDTO(eventId, "W001", "003", WorkerStatus.AVAILABLE, WorkerStatus.OCCUPIED,
+                "W002", LocalDateTime.now());
+    }
+}
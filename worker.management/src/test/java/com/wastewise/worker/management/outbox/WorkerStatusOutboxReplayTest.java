@@ -0,0 +1,107 @@
+package com.wastewise.worker.management.outbox;
+
+import com.wastewise.worker.management.dto.WorkerStatusChangeDTO;
+import com.wastewise.worker.management.repository.WorkerStatusOutboxRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * A row with a lower outbox id published after one with a higher id, as happens when its transaction commits
+ * later, must still be replayed to a subscriber resuming after the higher one.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class WorkerStatusOutboxReplayTest {
+
+    @Autowired
+    private WorkerStatusOutboxRelay relay;
+
+    @Autowired
+    private WorkerStatusOutboxRepository outboxRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void rowCommittedLateIsReplayedAfterTheEventsPublishedBeforeIt() throws Exception {
+        CountDownLatch inserted = new CountDownLatch(1);
+        CountDownLatch commit = new CountDownLatch(1);
+        long higherId;
+        Long higherSequence;
+        Future<Long> lower;
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            // the lower id is taken by a transaction that commits after the higher one
+            lower = executor.submit(() -> new TransactionTemplate(transactionManager).execute(status -> {
+                long id = insertOutboxRow("W8100001");
+                inserted.countDown();
+                try {
+                    commit.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return id;
+            }));
+            assertTrue(inserted.await(10, TimeUnit.SECONDS));
+            higherId = insertOutboxRow("W8100002");
+            relay.relay();
+            higherSequence = publishSequenceOf(higherId);
+            assertNotNull(higherSequence);
+            commit.countDown();
+            lower.get();
+        }
+        relay.relay();
+
+        long lowerId = lower.get();
+        assertTrue(lowerId < higherId);
+        Long lowerSequence = publishSequenceOf(lowerId);
+        assertNotNull(lowerSequence);
+        assertTrue(lowerSequence > higherSequence);
+        List<WorkerStatusChangeDTO> replayed = outboxRepository.findPublishedAfter(higherSequence, Limit.of(1000));
+        assertEquals(List.of(lowerSequence), replayed.stream()
+                .filter(change -> change.getWorkerId().startsWith("W81"))
+                .map(WorkerStatusChangeDTO::getEventId)
+                .toList());
+    }
+
+    private long insertOutboxRow(String workerId) {
+        GeneratedKeyHolder keyHolder = new GeneratedKeyHolder();
+        jdbcTemplate.update(connection -> {
+            PreparedStatement ps = connection.prepareStatement("INSERT INTO worker_status_outbox " +
+                    "(worker_id, role_id, previous_status, new_status, changed_by, occurred_at) " +
+                    "VALUES (?, '003', 'AVAILABLE', 'OCCUPIED', 'W001', ?)", Statement.RETURN_GENERATED_KEYS);
+            ps.setString(1, workerId);
+            ps.setTimestamp(2, Timestamp.valueOf(LocalDateTime.now()));
+            return ps;
+        }, keyHolder);
+        return keyHolder.getKey().longValue();
+    }
+
+    private Long publishSequenceOf(long id) {
+        return jdbcTemplate.queryForObject("SELECT publish_seq FROM worker_status_outbox WHERE id = ?", Long.class, id);
+    }
+}
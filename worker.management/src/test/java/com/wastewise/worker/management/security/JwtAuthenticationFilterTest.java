@@ -0,0 +1,76 @@
+package com.wastewise.worker.management.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class JwtAuthenticationFilterTest {
+
+    private final JwtAuthenticationFilter filter = new JwtAuthenticationFilter(
+            new JwtVerifier(TestTokens.keys()::get, TestTokens.ISSUER, Duration.ofSeconds(30), 100,
+                    Clock.fixed(TestTokens.NOW, ZoneOffset.UTC)),
+            new SimpleMeterRegistry());
+
+    @Test
+    void passesAValidTokenOnWithItsPrincipal() throws Exception {
+        MockHttpServletRequest request = request("Bearer " + TestTokens.token(TestTokens.KEY_ID,
+                TestTokens.claims().build()));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals(200, response.getStatus());
+        RequestPrincipal principal = assertInstanceOf(RequestPrincipal.class, request.getAttribute(RequestPrincipal.ATTRIBUTE));
+        assertEquals("W001", principal.workerId());
+    }
+
+    @Test
+    void tokenWithoutKeyIdIsUnauthorized() throws Exception {
+        assertUnauthorized(request("Bearer " + TestTokens.token(null, TestTokens.claims().build())));
+    }
+
+    @Test
+    void expiredTokenIsUnauthorized() throws Exception {
+        assertUnauthorized(request("Bearer " + TestTokens.token(TestTokens.KEY_ID, TestTokens.claims()
+                .expirationTime(Date.from(TestTokens.NOW.minusSeconds(3600))).build())));
+    }
+
+    @Test
+    void missingOrMalformedTokenIsUnauthorized() throws Exception {
+        assertUnauthorized(request(null));
+        assertUnauthorized(request("Basic dXNlcjpwYXNz"));
+        assertUnauthorized(request("Bearer not-a-token"));
+    }
+
+    private void assertUnauthorized(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals(401, response.getStatus());
+        assertEquals("Bearer", response.getHeader(HttpHeaders.WWW_AUTHENTICATE));
+        assertNull(chain.getRequest());
+    }
+
+    private static MockHttpServletRequest request(String authorization) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/workers/W001");
+        if (authorization != null) {
+            request.addHeader(HttpHeaders.AUTHORIZATION, authorization);
+        }
+        return request;
+    }
+}
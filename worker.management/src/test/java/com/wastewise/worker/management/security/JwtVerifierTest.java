@@ -0,0 +1,131 @@
+package com.wastewise.worker.management.security;
+
+import com.nimbusds.jose.JWSVerifier;
+import com.wastewise.worker.management.exception.InvalidTokenException;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.wastewise.worker.management.security.TestTokens.KEY_ID;
+import static com.wastewise.worker.management.security.TestTokens.NOW;
+import static com.wastewise.worker.management.security.TestTokens.claims;
+import static com.wastewise.worker.management.security.TestTokens.token;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JwtVerifierTest {
+
+    private static final Duration CLOCK_SKEW = Duration.ofSeconds(30);
+
+    private final Map<String, JWSVerifier> keys = TestTokens.keys();
+    private final AtomicInteger keyLookups = new AtomicInteger();
+    private final MovableClock clock = new MovableClock(NOW, ZoneOffset.UTC);
+    private final JwtVerifier jwtVerifier = new JwtVerifier(keyId -> {
+        keyLookups.incrementAndGet();
+        return keys.get(keyId);
+    }, TestTokens.ISSUER, CLOCK_SKEW, 100, clock);
+
+    @Test
+    void acceptsAValidToken() {
+        RequestPrincipal principal = jwtVerifier.verify(token(KEY_ID, claims().build()));
+
+        assertEquals("W001", principal.workerId());
+        assertEquals("003", principal.roleId());
+        assertEquals("WORKER", principal.roleName());
+    }
+
+    @Test
+    void rejectsATokenWithoutKeyId() {
+        assertThrows(InvalidTokenException.class, () -> jwtVerifier.verify(token(null, claims().build())));
+        assertThrows(InvalidTokenException.class, () -> jwtVerifier.verify(token(" ", claims().build())));
+    }
+
+    @Test
+    void rejectsATokenSignedWithAnUnknownKey() {
+        assertThrows(InvalidTokenException.class, () -> jwtVerifier.verify(token("key-2", claims().build())));
+    }
+
+    @Test
+    void rejectsATokenOfAnotherIssuer() {
+        assertThrows(InvalidTokenException.class,
+                () -> jwtVerifier.verify(token(KEY_ID, claims().issuer("someone-else").build())));
+    }
+
+    @Test
+    void rejectsATokenExpiredLongerThanTheSkew() {
+        String token = token(KEY_ID, claims().expirationTime(Date.from(NOW.minus(CLOCK_SKEW))).build());
+
+        assertThrows(InvalidTokenException.class, () -> jwtVerifier.verify(token));
+    }
+
+    @Test
+    void acceptsATokenExpiredWithinTheSkew() {
+        String token = token(KEY_ID, claims().expirationTime(Date.from(NOW.minusSeconds(10))).build());
+
+        assertEquals("W001", jwtVerifier.verify(token).workerId());
+    }
+
+    @Test
+    void rejectsATokenNotValidYet() {
+        String token = token(KEY_ID, claims().notBeforeTime(Date.from(NOW.plus(CLOCK_SKEW).plusSeconds(1))).build());
+
+        assertThrows(InvalidTokenException.class, () -> jwtVerifier.verify(token));
+    }
+
+    @Test
+    void acceptsATokenValidWithinTheSkew() {
+        String token = token(KEY_ID, claims().notBeforeTime(Date.from(NOW.plusSeconds(10))).build());
+
+        assertEquals("W001", jwtVerifier.verify(token).workerId());
+    }
+
+    @Test
+    void verifiedTokenIsServedFromTheCacheUntilExpiryPlusSkew() {
+        Instant expiresAt = NOW.plusSeconds(60);
+        String token = token(KEY_ID, claims().expirationTime(Date.from(expiresAt)).build());
+
+        jwtVerifier.verify(token);
+        clock.set(expiresAt.plusSeconds(10));
+        jwtVerifier.verify(token);
+
+        assertEquals(1, keyLookups.get());
+        clock.set(expiresAt.plus(CLOCK_SKEW));
+        assertThrows(InvalidTokenException.class, () -> jwtVerifier.verify(token));
+    }
+
+    private static final class MovableClock extends Clock {
+        private final ZoneId zone;
+        private volatile Instant now;
+
+        MovableClock(Instant now, ZoneId zone) {
+            this.now = now;
+            this.zone = zone;
+        }
+
+        void set(Instant instant) {
+            now = instant;
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return zone;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return new MovableClock(now, zone);
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
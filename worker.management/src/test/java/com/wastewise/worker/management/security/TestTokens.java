@@ -0,0 +1,70 @@
+package com.wastewise.worker.management.security;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.JWSVerifier;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.crypto.RSASSAVerifier;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Tokens signed the way auth-service signs them, with one generated RSA key.
+ */
+final class TestTokens {
+
+    static final String ISSUER = "wastewise-auth-service";
+    static final String KEY_ID = "key-1";
+    static final Instant NOW = Instant.parse("2026-10-18T08:00:00Z");
+
+    private static final RSAKey SIGNING_KEY = generateKey();
+
+    private TestTokens() {
+    }
+
+    /**
+     * @return the verifiers by key id, an immutable map like JwtKeyStore's whose get(null) throws
+     */
+    static Map<String, JWSVerifier> keys() {
+        try {
+            return Map.of(KEY_ID, new RSASSAVerifier(SIGNING_KEY.toRSAPublicKey()));
+        } catch (JOSEException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    static JWTClaimsSet.Builder claims() {
+        return new JWTClaimsSet.Builder()
+                .issuer(ISSUER)
+                .subject("W001")
+                .claim(JwtVerifier.ROLE_ID_CLAIM, "003")
+                .claim(JwtVerifier.ROLE_CLAIM, "WORKER")
+                .issueTime(Date.from(NOW.minusSeconds(60)))
+                .expirationTime(Date.from(NOW.plusSeconds(600)));
+    }
+
+    static String token(String keyId, JWTClaimsSet claims) {
+        try {
+            SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(keyId).build(), claims);
+            jwt.sign(new RSASSASigner(SIGNING_KEY));
+            return jwt.serialize();
+        } catch (JOSEException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static RSAKey generateKey() {
+        try {
+            return new RSAKeyGenerator(2048).keyID(KEY_ID).generate();
+        } catch (JOSEException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
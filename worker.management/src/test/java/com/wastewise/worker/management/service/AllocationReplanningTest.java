@@ -0,0 +1,76 @@
+package com.wastewise.worker.management.service;
+
+import com.wastewise.worker.management.cache.AvailableWorkerIndex;
+import com.wastewise.worker.management.dto.AllocationReportDTO;
+import com.wastewise.worker.management.dto.AllocationRequestDTO;
+import com.wastewise.worker.management.dto.AssignmentSlotDTO;
+import com.wastewise.worker.management.service.serviceimpl.AllocationServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Workers the available worker index still lists but that were taken in the meantime are rejected by the batch
+ * assignment, their positions have to be filled from the remaining candidates.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class AllocationReplanningTest {
+
+    private static final String ROLE_ID = "907";
+
+    @Autowired
+    private AllocationServiceImpl allocationService;
+
+    @Autowired
+    private AvailableWorkerIndex availableWorkerIndex;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void positionsOfWorkersTakenSincePlanningAreFilledFromTheRemainingCandidates() {
+        List<String> workerIds = List.of("W8200001", "W8200002", "W8200003", "W8200004", "W8200005");
+        jdbcTemplate.batchUpdate("INSERT INTO worker (worker_id, name, contact_number, contact_email, worker_status, " +
+                        "role_id, created_by, created_date, version) VALUES (?, ?, ?, ?, 'AVAILABLE', ?, 'W001', ?, 0)",
+                workerIds, workerIds.size(), (ps, workerId) -> {
+                    ps.setString(1, workerId);
+                    ps.setString(2, "worker " + workerId);
+                    ps.setString(3, "9" + workerId.substring(1) + "00");
+                    ps.setString(4, workerId.toLowerCase() + "@wastewise.com");
+                    ps.setString(5, ROLE_ID);
+                    ps.setObject(6, LocalDateTime.now());
+                });
+        availableWorkerIndex.reload();
+        // taken without the index hearing about it, the planner still hands them out first
+        jdbcTemplate.update("UPDATE worker SET worker_status = 'OCCUPIED' WHERE worker_id IN ('W8200001', 'W8200002', 'W8200003')");
+
+        AllocationRequestDTO request = new AllocationRequestDTO();
+        request.setRoleId(ROLE_ID);
+        request.setAssignments(List.of(slot("A941"), slot("A942")));
+        AllocationReportDTO report = allocationService.allocate(request);
+
+        assertEquals(4, report.getOpenPositions());
+        assertEquals(2, report.getAssigned());
+        assertEquals(Map.of("A941", 1, "A942", 1), report.getUnfilled());
+        assertEquals(List.of("W8200004", "W8200005"), jdbcTemplate.queryForList(
+                "SELECT worker_id FROM worker_assignment WHERE assignment_id IN ('A941', 'A942') ORDER BY worker_id", String.class));
+    }
+
+    private static AssignmentSlotDTO slot(String assignmentId) {
+        AssignmentSlotDTO slot = new AssignmentSlotDTO();
+        slot.setAssignmentId(assignmentId);
+        slot.setZoneId("Z001");
+        slot.setRouteId("Z001-R001");
+        slot.setShift("DAY");
+        return slot;
+    }
+}
@@ -0,0 +1,148 @@
+package com.wastewise.worker.management.service;
+
+import com.wastewise.worker.management.dto.WorkerAssignmentBatchReportDTO;
+import com.wastewise.worker.management.dto.WorkerAssignmentDTO;
+import com.wastewise.worker.management.exception.WorkersAlreadyAssignedException;
+import com.wastewise.worker.management.service.serviceimpl.WorkerAssignmentServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+/**
+ * Concurrent assigns of different workers to the same assignments, the two-workers cap has to hold whichever
+ * transaction counts first. Every test seeds its own workers and assignment ids.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class WorkerAssignmentCapConcurrencyTest {
+
+    private static final int MAX_WORKERS_PER_ASSIGNMENT = 2;
+
+    @Autowired
+    private WorkerAssignmentServiceImpl workerAssignmentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void concurrentBatchesNeverPutMoreThanTwoWorkersOnAnAssignment() throws Exception {
+        List<String> assignmentIds = List.of("A901", "A902", "A903");
+        int batches = 12;
+        List<String> workerIds = seedWorkers(8_001_000, batches * assignmentIds.size());
+
+        List<Future<WorkerAssignmentBatchReportDTO>> reports = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int b = 0; b < batches; b++) {
+                List<WorkerAssignmentDTO> batch = new ArrayList<>();
+                for (int a = 0; a < assignmentIds.size(); a++) {
+                    batch.add(assignment(assignmentIds.get(a), workerIds.get(b * assignmentIds.size() + a)));
+                }
+                reports.add(executor.submit(() -> workerAssignmentService.assignWorkersInBatch(batch)));
+            }
+        }
+        int assigned = 0;
+        for (Future<WorkerAssignmentBatchReportDTO> report : reports) {
+            assigned += report.get().getAssigned();
+        }
+
+        assertEquals(assignmentIds.size() * MAX_WORKERS_PER_ASSIGNMENT, assigned);
+        for (String assignmentId : assignmentIds) {
+            assertEquals(MAX_WORKERS_PER_ASSIGNMENT, workersOf(assignmentId));
+        }
+    }
+
+    @Test
+    void concurrentSingleAssignsLetExactlyTwoWorkersIn() throws Exception {
+        String assignmentId = "A911";
+        List<String> workerIds = seedWorkers(8_002_000, 16);
+
+        List<Future<?>> assigns = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String workerId : workerIds) {
+                assigns.add(executor.submit(() -> workerAssignmentService.assignWorkerToAssignment(assignmentId,
+                        workerId, assignment(assignmentId, workerId))));
+            }
+        }
+        int succeeded = 0;
+        for (Future<?> assign : assigns) {
+            try {
+                assign.get();
+                succeeded++;
+            } catch (ExecutionException ex) {
+                assertInstanceOf(WorkersAlreadyAssignedException.class, ex.getCause());
+            }
+        }
+
+        assertEquals(MAX_WORKERS_PER_ASSIGNMENT, succeeded);
+        assertEquals(MAX_WORKERS_PER_ASSIGNMENT, workersOf(assignmentId));
+    }
+
+    @Test
+    void singleAssignsRacingABatchKeepTheCap() throws Exception {
+        List<String> assignmentIds = List.of("A921", "A922");
+        List<String> workerIds = seedWorkers(8_003_000, 12);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < workerIds.size(); i++) {
+                String assignmentId = assignmentIds.get(i % assignmentIds.size());
+                String workerId = workerIds.get(i);
+                if (i % 3 == 0) {
+                    executor.submit(() -> workerAssignmentService.assignWorkersInBatch(
+                            List.of(assignment(assignmentId, workerId))));
+                } else {
+                    executor.submit(() -> workerAssignmentService.assignWorkerToAssignment(assignmentId, workerId,
+                            assignment(assignmentId, workerId)));
+                }
+            }
+        }
+
+        for (String assignmentId : assignmentIds) {
+            assertEquals(MAX_WORKERS_PER_ASSIGNMENT, workersOf(assignmentId));
+        }
+    }
+
+    private List<String> seedWorkers(int firstNumber, int count) {
+        List<String> workerIds = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            workerIds.add("W" + (firstNumber + i));
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO worker (worker_id, name, contact_number, contact_email, worker_status, " +
+                        "role_id, created_by, created_date, version) VALUES (?, ?, ?, ?, 'AVAILABLE', '003', 'W001', ?, 0)",
+                workerIds, workerIds.size(), (ps, workerId) -> {
+                    ps.setString(1, workerId);
+                    ps.setString(2, "worker " + workerId);
+                    ps.setString(3, "9" + workerId.substring(1) + "00");
+                    ps.setString(4, workerId.toLowerCase() + "@wastewise.com");
+                    ps.setObject(5, LocalDateTime.now());
+                });
+        return workerIds;
+    }
+
+    private int workersOf(String assignmentId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM worker_assignment WHERE assignment_id = ?",
+                Integer.class, assignmentId);
+    }
+
+    private static WorkerAssignmentDTO assignment(String assignmentId, String workerId) {
+        WorkerAssignmentDTO dto = new WorkerAssignmentDTO();
+        dto.setAssignmentId(assignmentId);
+        dto.setWorkerId(workerId);
+        dto.setZoneId("Z001");
+        dto.setRouteId("Z001-R001");
+        dto.setShift("DAY");
+        return dto;
+    }
+}
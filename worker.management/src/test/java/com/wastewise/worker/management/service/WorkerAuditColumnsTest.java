@@ -0,0 +1,111 @@
+package com.wastewise.worker.management.service;
+
+import com.wastewise.worker.management.dto.WorkerAssignmentDTO;
+import com.wastewise.worker.management.enums.WorkerStatus;
+import com.wastewise.worker.management.security.RequestPrincipal;
+import com.wastewise.worker.management.service.serviceimpl.WorkerAssignmentServiceImpl;
+import com.wastewise.worker.management.service.serviceimpl.WorkerServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Every status write records the authenticated worker and the time in updated_by / updated_date.
+ * The workers, zone and assignment id are used by no other test.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class WorkerAuditColumnsTest {
+
+    private static final String ASSIGNMENT_ID = "A961";
+    private static final String CALLER = "W8400900";
+    private static final List<String> WORKER_IDS = List.of("W8400001", "W8400002", "W8400003", "W8400004",
+            "W8400005", "W8400006");
+
+    @Autowired
+    private WorkerServiceImpl workerService;
+
+    @Autowired
+    private WorkerAssignmentServiceImpl workerAssignmentService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void authenticate() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(RequestPrincipal.ATTRIBUTE,
+                new RequestPrincipal(CALLER, "001", "ADMIN", Instant.now().plusSeconds(300)));
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void clearRequest() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void everyStatusWriteRecordsTheCallerAndTime() {
+        jdbcTemplate.batchUpdate("INSERT INTO worker (worker_id, name, contact_number, contact_email, worker_status, " +
+                        "role_id, created_by, created_date, version) VALUES (?, ?, ?, ?, 'AVAILABLE', '003', 'W001', ?, 0)",
+                WORKER_IDS, WORKER_IDS.size(), (ps, workerId) -> {
+                    ps.setString(1, workerId);
+                    ps.setString(2, "worker " + workerId);
+                    ps.setString(3, "9" + workerId.substring(1) + "00");
+                    ps.setString(4, workerId.toLowerCase() + "@wastewise.com");
+                    ps.setObject(5, LocalDateTime.now());
+                });
+
+        assertUpdatedByCaller(List.of("W8400006"),
+                () -> workerService.changeWorkerStatus("W8400006", WorkerStatus.ABSENT));
+        assertUpdatedByCaller(List.of("W8400001"),
+                () -> workerAssignmentService.assignWorkerToAssignment(ASSIGNMENT_ID, "W8400001", assignment("W8400001")));
+        assertUpdatedByCaller(List.of("W8400002"),
+                () -> workerAssignmentService.assignWorkerToAssignment(ASSIGNMENT_ID, "W8400002", assignment("W8400002")));
+        assertUpdatedByCaller(List.of("W8400001", "W8400003"),
+                () -> workerAssignmentService.updateSingleWorkerAssignment(ASSIGNMENT_ID, "W8400001", "W8400003"));
+        assertUpdatedByCaller(List.of("W8400002", "W8400003", "W8400004", "W8400005"),
+                () -> workerAssignmentService.updateBothWorkerAssignments(ASSIGNMENT_ID, "W8400003", "W8400002",
+                        "W8400004", "W8400005"));
+        assertUpdatedByCaller(List.of("W8400004", "W8400005"),
+                () -> workerAssignmentService.deleteWorkerAssignment(ASSIGNMENT_ID));
+    }
+
+    private void assertUpdatedByCaller(List<String> written, Runnable write) {
+        jdbcTemplate.update("UPDATE worker SET updated_by = NULL, updated_date = NULL WHERE worker_id LIKE 'W84%'");
+        LocalDateTime before = LocalDateTime.now().minusSeconds(1);
+
+        write.run();
+
+        Map<String, String> updatedBy = jdbcTemplate.queryForList(
+                        "SELECT worker_id, updated_by, updated_date FROM worker WHERE updated_date >= ? " +
+                                "AND worker_id LIKE 'W84%'", before).stream()
+                .collect(Collectors.toMap(row -> (String) row.get("worker_id"), row -> String.valueOf(row.get("updated_by"))));
+        assertEquals(written.stream().collect(Collectors.toMap(workerId -> workerId, workerId -> CALLER)), updatedBy);
+    }
+
+    private static WorkerAssignmentDTO assignment(String workerId) {
+        WorkerAssignmentDTO dto = new WorkerAssignmentDTO();
+        dto.setAssignmentId(ASSIGNMENT_ID);
+        dto.setWorkerId(workerId);
+        dto.setZoneId("Z096");
+        dto.setRouteId("Z096-R001");
+        dto.setShift("NIGHT");
+        return dto;
+    }
+}
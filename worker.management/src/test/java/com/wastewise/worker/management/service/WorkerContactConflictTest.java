@@ -0,0 +1,99 @@
+package com.wastewise.worker.management.service;
+
+import com.wastewise.worker.management.dto.WorkerBulkReportDTO;
+import com.wastewise.worker.management.dto.WorkerBulkResultDTO;
+import com.wastewise.worker.management.dto.WorkerCreateDTO;
+import com.wastewise.worker.management.exception.ContactInformationUsedException;
+import com.wastewise.worker.management.service.serviceimpl.WorkerServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Contacts written behind the used contact filter's back, as another instance would, so only the unique
+ * constraints catch them. The workers and contacts are used by no other test; the ids are below those the other
+ * tests seed, so the id generator, which continues after the highest id, never hands them out.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class WorkerContactConflictTest {
+
+    @Autowired
+    private WorkerServiceImpl workerService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void contactNumberTakenElsewhereIsReportedAsUsed() {
+        insertBehindTheFilter("W8000001", "9800000001", "w8000001@wastewise.com");
+
+        ContactInformationUsedException used = assertThrows(ContactInformationUsedException.class,
+                () -> workerService.createWorker(worker("9800000001", "w8000002@wastewise.com")));
+        assertTrue(used.getMessage().contains("contact number"));
+    }
+
+    @Test
+    void contactEmailTakenElsewhereIsReportedAsUsed() {
+        insertBehindTheFilter("W8000011", "9800000011", "w8000011@wastewise.com");
+
+        ContactInformationUsedException used = assertThrows(ContactInformationUsedException.class,
+                () -> workerService.createWorker(worker("9800000012", "w8000011@wastewise.com")));
+        assertTrue(used.getMessage().contains("contact email"));
+    }
+
+    @Test
+    void bulkRowWhoseContactWasTakenElsewhereIsRejectedOnItsOwn() {
+        insertBehindTheFilter("W8000021", "9800000021", "w8000021@wastewise.com");
+
+        WorkerBulkReportDTO report = workerService.createWorkers(List.of(
+                worker("9800000022", "w8000022@wastewise.com"),
+                worker("9800000021", "w8000023@wastewise.com"),
+                worker("9800000024", "w8000021@wastewise.com"),
+                worker("9800000025", null)));
+
+        assertEquals(4, report.getTotal());
+        assertEquals(2, report.getCreated());
+        assertEquals(2, report.getRejected());
+        List<WorkerBulkResultDTO> results = report.getResults();
+        assertTrue(results.get(0).isCreated());
+        assertFalse(results.get(1).isCreated());
+        assertTrue(results.get(1).getMessage().contains("contact number"));
+        assertFalse(results.get(2).isCreated());
+        assertTrue(results.get(2).getMessage().contains("contact email"));
+        assertTrue(results.get(3).isCreated());
+        assertEquals(1, count("9800000022"));
+        assertEquals(1, count("9800000025"));
+    }
+
+    private void insertBehindTheFilter(String workerId, String contactNumber, String contactEmail) {
+        jdbcTemplate.update("INSERT INTO worker (worker_id, name, contact_number, contact_email, worker_status, " +
+                        "role_id, created_by, created_date, version) VALUES (?, ?, ?, ?, 'AVAILABLE', '003', 'W001', ?, 0)",
+                workerId, "worker " + workerId, contactNumber, contactEmail, LocalDateTime.now());
+    }
+
+    private int count(String contactNumber) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM worker WHERE contact_number = ?", Integer.class,
+                contactNumber);
+    }
+
+    private static WorkerCreateDTO worker(String contactNumber, String contactEmail) {
+        WorkerCreateDTO dto = new WorkerCreateDTO();
+        dto.setName("worker " + contactNumber);
+        dto.setContactNumber(contactNumber);
+        dto.setContactEmail(contactEmail);
+        dto.setRoleId("003");
+        dto.setWorkerStatus("AVAILABLE");
+        return dto;
+    }
+}
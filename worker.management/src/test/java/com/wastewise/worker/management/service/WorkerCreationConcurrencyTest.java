@@ -0,0 +1,56 @@
+package com.wastewise.worker.management.service;
+
+import com.wastewise.worker.management.dto.WorkerCreateDTO;
+import com.wastewise.worker.management.service.serviceimpl.WorkerServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Many more concurrent creations than pooled connections, with blocks of two ids so most creations refill the
+ * block while every pooled connection is held by another creation.
+ */
+@SpringBootTest
+@ActiveProfiles("h2")
+class WorkerCreationConcurrencyTest {
+
+    @Autowired
+    private WorkerServiceImpl workerService;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size}")
+    private int poolSize;
+
+    @Test
+    void concurrentCreationsSaturatingThePoolGetDistinctIds() throws Exception {
+        int creations = poolSize * 10;
+        List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < creations; i++) {
+                WorkerCreateDTO dto = new WorkerCreateDTO();
+                dto.setName("worker " + i);
+                dto.setContactNumber(String.format("81%08d", i));
+                dto.setContactEmail("creation" + i + "@wastewise.com");
+                dto.setRoleId("003");
+                dto.setWorkerStatus("AVAILABLE");
+                results.add(executor.submit(() -> workerService.createWorker(dto)));
+            }
+        }
+        Set<String> messages = new HashSet<>();
+        for (Future<String> result : results) {
+            messages.add(result.get());
+        }
+        assertEquals(creations, messages.size());
+    }
+}
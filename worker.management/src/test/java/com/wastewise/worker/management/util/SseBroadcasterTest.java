@@ -0,0 +1,183 @@
+package com.wastewise.worker.management.util;
+
+import com.wastewise.worker.management.exception.TooManySubscribersException;
+import com.wastewise.worker.management.util.SseBroadcaster.SseEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SseBroadcasterTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+    private final List<RecordingEmitter> emitters = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void shutdown() throws InterruptedException {
+        emitters.forEach(RecordingEmitter::open);
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void everySubscriberReceivesTheBroadcastsInOrder() throws Exception {
+        SseBroadcaster broadcaster = broadcaster(10_000);
+        List<RecordingEmitter> subscribers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            subscribers.add((RecordingEmitter) broadcaster.subscribe());
+        }
+
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 2_000; i++) {
+            ids.add(String.valueOf(i));
+            broadcaster.broadcast(new SseEvent(String.valueOf(i), "change", i));
+        }
+
+        for (RecordingEmitter subscriber : subscribers) {
+            assertEquals(ids, subscriber.awaitIds(ids.size()));
+        }
+    }
+
+    @Test
+    void subscriberWhoseQueueOverflowsIsDroppedWithoutHoldingUpTheOthers() throws Exception {
+        SseBroadcaster broadcaster = broadcaster(4);
+        RecordingEmitter stalled = (RecordingEmitter) broadcaster.subscribe();
+        stalled.close();
+        RecordingEmitter live = (RecordingEmitter) broadcaster.subscribe();
+
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            ids.add(String.valueOf(i));
+            broadcaster.broadcast(new SseEvent(String.valueOf(i), "change", i));
+            // the live subscriber keeps up, only the stalled one falls behind
+            assertEquals(ids, live.awaitIds(ids.size()));
+        }
+
+        assertTrue(stalled.completed);
+        assertEquals(1, broadcaster.subscriberCount());
+        stalled.open();
+        broadcaster.broadcast(new SseEvent("10", "change", 10));
+        assertEquals(11, live.awaitIds(11).size());
+        assertTrue(stalled.ids().size() <= 1, "sent after the drop: " + stalled.ids());
+    }
+
+    @Test
+    void initialEventsArriveBeforeBroadcastsRacingWithTheirLoad() throws Exception {
+        SseBroadcaster broadcaster = broadcaster(16);
+        RecordingEmitter subscriber = (RecordingEmitter) broadcaster.subscribe(() -> {
+            // a change committed while the snapshot is read
+            broadcaster.broadcast(new SseEvent("live-1", "change", 1));
+            return List.of(new SseEvent("snapshot", "snapshot", List.of()));
+        });
+        broadcaster.broadcast(new SseEvent("live-2", "change", 2));
+
+        assertEquals(List.of("snapshot", "live-1", "live-2"), subscriber.awaitIds(3));
+    }
+
+    @Test
+    void refusesSubscribersBeyondTheLimit() {
+        SseBroadcaster broadcaster = new SseBroadcaster("test", 2, 16, this::newEmitter, executor);
+        broadcaster.subscribe();
+        broadcaster.subscribe();
+
+        assertThrows(TooManySubscribersException.class, broadcaster::subscribe);
+        assertEquals(2, broadcaster.subscriberCount());
+    }
+
+    @Test
+    void failingInitialLoadDoesNotLeaveTheSubscriberBehind() {
+        SseBroadcaster broadcaster = broadcaster(16);
+
+        assertThrows(IllegalStateException.class, () -> broadcaster.subscribe(() -> {
+            throw new IllegalStateException("database down");
+        }));
+        assertEquals(0, broadcaster.subscriberCount());
+        assertFalse(emitters.get(0).completed);
+    }
+
+    private SseBroadcaster broadcaster(int queueCapacity) {
+        return new SseBroadcaster("test", 100, queueCapacity, this::newEmitter, executor);
+    }
+
+    private SseEmitter newEmitter() {
+        RecordingEmitter emitter = new RecordingEmitter();
+        emitters.add(emitter);
+        return emitter;
+    }
+
+    /**
+     * Records what would be written to the connection; close() makes send block like a stalled client.
+     */
+    private static final class RecordingEmitter extends SseEmitter {
+
+        private static final Pattern ID = Pattern.compile("^id:(.*)$", Pattern.MULTILINE);
+
+        private final List<String> sent = new CopyOnWriteArrayList<>();
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+        private volatile boolean completed;
+
+        void close() {
+            gate = new CountDownLatch(1);
+        }
+
+        void open() {
+            gate.countDown();
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            try {
+                gate.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            sent.add(builder.build().stream()
+                    .map(part -> String.valueOf(part.getData()))
+                    .collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            completed = true;
+        }
+
+        List<String> ids() {
+            List<String> ids = new ArrayList<>();
+            for (String event : sent) {
+                Matcher matcher = ID.matcher(event);
+                if (matcher.find()) {
+                    ids.add(matcher.group(1));
+                }
+            }
+            return ids;
+        }
+
+        List<String> awaitIds(int count) throws InterruptedException {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+            while (sent.size() < count && System.nanoTime() < deadline) {
+                Thread.sleep(5);
+            }
+            return ids();
+        }
+    }
+}